@@ -0,0 +1,46 @@
+const fs = require('fs');
+const path = require('path');
+const zlib = require('zlib');
+
+const BUILD_DIR = path.resolve(__dirname, '..', 'build');
+const COMPRESSIBLE = /\.(js|css|html|json|svg|txt|map|ico)$/;
+const MIN_SIZE = 1024;
+
+const encoders = [
+    {
+        extension: '.br',
+        compress: (data) => zlib.brotliCompressSync(data, {
+            params: {
+                [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+                [zlib.constants.BROTLI_PARAM_SIZE_HINT]: data.length
+            }
+        })
+    },
+    {
+        extension: '.gz',
+        compress: (data) => zlib.gzipSync(data, {level: zlib.constants.Z_BEST_COMPRESSION})
+    }
+];
+
+function listFiles(dir) {
+    return fs.readdirSync(dir, {withFileTypes: true}).flatMap((entry) => {
+        const fullPath = path.join(dir, entry.name);
+        return entry.isDirectory() ? listFiles(fullPath) : [fullPath];
+    });
+}
+
+let written = 0;
+for (const file of listFiles(BUILD_DIR).filter((name) => COMPRESSIBLE.test(name))) {
+    const data = fs.readFileSync(file);
+    if (data.length < MIN_SIZE) {
+        continue;
+    }
+    for (const encoder of encoders) {
+        const compressed = encoder.compress(data);
+        if (compressed.length < data.length) {
+            fs.writeFileSync(file + encoder.extension, compressed);
+            written++;
+        }
+    }
+}
+console.log(`Wrote ${written} pre-compressed assets to ${BUILD_DIR}`);
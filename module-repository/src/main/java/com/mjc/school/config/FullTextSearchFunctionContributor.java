@@ -0,0 +1,27 @@
+package com.mjc.school.config;
+
+import com.mjc.school.filter.FullTextNewsSearch;
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.BasicTypeRegistry;
+import org.hibernate.type.StandardBasicTypes;
+
+public class FullTextSearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        if (!(functionContributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+        BasicTypeRegistry basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        functionContributions.getFunctionRegistry().registerPattern(
+                FullTextNewsSearch.MATCH_FUNCTION,
+                "(?1 in (select s.id from news s where s.search_vector @@ to_tsquery('simple', ?2)))",
+                basicTypeRegistry.resolve(StandardBasicTypes.BOOLEAN));
+        functionContributions.getFunctionRegistry().registerPattern(
+                FullTextNewsSearch.RANK_FUNCTION,
+                "(select ts_rank(s.search_vector, to_tsquery('simple', ?2)) from news s where s.id = ?1)",
+                basicTypeRegistry.resolve(StandardBasicTypes.FLOAT));
+    }
+}
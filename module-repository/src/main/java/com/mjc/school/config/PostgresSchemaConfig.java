@@ -0,0 +1,42 @@
+package com.mjc.school.config;
+
+import com.mjc.school.filter.NewsTextSearch;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DataSourceInitializer;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+public class PostgresSchemaConfig {
+    private static final String SCRIPT_LOCATION = "db/postgresql/";
+    private static final List<String> MIGRATION_SCRIPTS = List.of(
+            "entity-versions.sql",
+            "news-counters.sql",
+            "news-excerpt.sql",
+            "seek-indexes.sql");
+    private static final String SEARCH_SCRIPT = "news-search.sql";
+
+    @Bean
+    public DataSourceInitializer postgresSchemaInitializer(DataSource dataSource, Environment environment) {
+        List<String> scripts = new ArrayList<>();
+        if ("none".equals(environment.getProperty("spring.jpa.hibernate.ddl-auto"))) {
+            scripts.addAll(MIGRATION_SCRIPTS);
+        }
+        if ("fulltext".equals(environment.getProperty(NewsTextSearch.BACKEND_PROPERTY))) {
+            scripts.add(SEARCH_SCRIPT);
+        }
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        scripts.forEach(script -> populator.addScript(new ClassPathResource(SCRIPT_LOCATION + script)));
+        DataSourceInitializer initializer = new DataSourceInitializer();
+        initializer.setDataSource(dataSource);
+        initializer.setDatabasePopulator(populator);
+        initializer.setEnabled(!scripts.isEmpty());
+        return initializer;
+    }
+}
@@ -1,5 +1,6 @@
 package com.mjc.school.config;
 
+import com.mjc.school.repository.support.SliceableJpaRepository;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
@@ -10,7 +11,7 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @Configuration
 @EnableJpaAuditing
 @EnableTransactionManagement
-@EnableJpaRepositories(basePackages = "com.mjc.school.repository")
+@EnableJpaRepositories(basePackages = "com.mjc.school.repository", repositoryBaseClass = SliceableJpaRepository.class)
 @EntityScan(basePackages = "com.mjc.school.model")
 @PropertySource("classpath:application-repository.properties")
 public class RepositoryConfig {
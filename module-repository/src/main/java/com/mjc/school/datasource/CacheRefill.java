@@ -0,0 +1,26 @@
+package com.mjc.school.datasource;
+
+import java.util.function.Supplier;
+
+public final class CacheRefill {
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private CacheRefill() {
+    }
+
+    public static <T> T run(Supplier<T> loader) {
+        if (isActive()) {
+            return loader.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return loader.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
@@ -0,0 +1,44 @@
+package com.mjc.school.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+public class ReadYourWritesTracker {
+    private final Cache<String, Boolean> recentWriters;
+    private final long cacheFillWindowNanos;
+    private volatile long lastCommitNanos;
+
+    public ReadYourWritesTracker(Duration window, Duration cacheFillWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+        this.cacheFillWindowNanos = cacheFillWindow.toNanos();
+        this.lastCommitNanos = System.nanoTime() - cacheFillWindowNanos;
+    }
+
+    public void recordCommit(String user) {
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+        lastCommitNanos = System.nanoTime();
+    }
+
+    public boolean hasRecentWrite() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    public boolean hasRecentCommit() {
+        return System.nanoTime() - lastCommitNanos < cacheFillWindowNanos;
+    }
+
+    static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
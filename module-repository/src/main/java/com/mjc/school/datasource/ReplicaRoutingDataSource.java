@@ -0,0 +1,109 @@
+package com.mjc.school.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica-";
+
+    private final Map<String, DataSource> replicas = new LinkedHashMap<>();
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile List<String> healthyReplicas = List.of();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas,
+                                    ReadYourWritesTracker readYourWritesTracker, int validationTimeoutSeconds) {
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.put(REPLICA + i, replicas.get(i));
+            targets.put(REPLICA + i, replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        refreshHealth();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.health-check-interval:PT5S}")
+    public void refreshHealth() {
+        List<String> healthy = replicas.entrySet().stream()
+                .filter(replica -> isValid(replica.getKey(), replica.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!healthy.equals(healthyReplicas)) {
+            LOGGER.info("Healthy read replicas changed from {} to {}", healthyReplicas, healthy);
+        }
+        healthyReplicas = healthy;
+    }
+
+    public List<String> getHealthyReplicas() {
+        return healthyReplicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return PRIMARY;
+        }
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            recordWriteOnCommit();
+            return PRIMARY;
+        }
+        List<String> healthy = healthyReplicas;
+        if (healthy.isEmpty() || readYourWritesTracker.hasRecentWrite()
+                || CacheRefill.isActive() && readYourWritesTracker.hasRecentCommit()) {
+            return PRIMARY;
+        }
+        return healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+    }
+
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        WriteCommit commit = new WriteCommit(readYourWritesTracker, ReadYourWritesTracker.currentUser());
+        if (!TransactionSynchronizationManager.getSynchronizations().contains(commit)) {
+            TransactionSynchronizationManager.registerSynchronization(commit);
+        }
+    }
+
+    private boolean isValid(String key, DataSource replica) {
+        try (Connection connection = replica.getConnection()) {
+            return connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.warn("Read replica {} is unavailable: {}", key, e.getMessage());
+            return false;
+        }
+    }
+
+    private record WriteCommit(ReadYourWritesTracker tracker, String user) implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            tracker.recordCommit(user);
+        }
+    }
+}
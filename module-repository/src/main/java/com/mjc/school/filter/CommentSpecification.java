@@ -0,0 +1,11 @@
+package com.mjc.school.filter;
+
+import com.mjc.school.model.Comment;
+import org.springframework.data.jpa.domain.Specification;
+
+public class CommentSpecification {
+
+    public static Specification<Comment> byNewsId(Long newsId) {
+        return (root, query, cb) -> cb.equal(root.get("news").get("id"), newsId);
+    }
+}
@@ -1,12 +1,17 @@
 package com.mjc.school.filter;
 
 import com.mjc.school.model.BaseEntity;
+import jakarta.persistence.criteria.Path;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public class EntitySpecification<T extends BaseEntity<Long>> {
     private static final String PERCENTAGE_SYMBOL = "%";
+    private static final String ID = "id";
 
     private static <T> Specification<T> searchByField(String field, String value) {
         return (root, query, cb) -> {
@@ -31,4 +36,38 @@ public class EntitySpecification<T extends BaseEntity<Long>> {
             return spec.toPredicate(root, query, cb);
         };
     }
+
+    public static <T> Specification<T> hasIdIn(Collection<Long> ids) {
+        return (root, query, cb) -> {
+            if (ids.isEmpty()) {
+                return cb.disjunction();
+            }
+            return root.get(ID).in(ids);
+        };
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seekAfter(String field, Sort.Direction direction, String value, Long id) {
+        return (root, query, cb) -> {
+            Path<Comparable> path = root.get(field);
+            Path<Long> idPath = root.get(ID);
+            Comparable key = toKey(path.getJavaType(), value);
+            if (direction.isAscending()) {
+                return cb.and(cb.greaterThanOrEqualTo(path, key),
+                        cb.or(cb.greaterThan(path, key), cb.greaterThan(idPath, id)));
+            }
+            return cb.and(cb.lessThanOrEqualTo(path, key),
+                    cb.or(cb.lessThan(path, key), cb.lessThan(idPath, id)));
+        };
+    }
+
+    private static Comparable<?> toKey(Class<?> type, String value) {
+        if (LocalDateTime.class.equals(type)) {
+            return LocalDateTime.parse(value);
+        }
+        if (Long.class.equals(type) || long.class.equals(type)) {
+            return Long.valueOf(value);
+        }
+        return value;
+    }
 }
@@ -0,0 +1,65 @@
+package com.mjc.school.filter;
+
+import com.mjc.school.model.News;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = NewsTextSearch.BACKEND_PROPERTY, havingValue = "fulltext")
+public class FullTextNewsSearch implements NewsTextSearch {
+    public static final String MATCH_FUNCTION = "fts_match";
+    public static final String RANK_FUNCTION = "fts_rank";
+    private static final String ID = "id";
+    private static final String AND = " & ";
+    private static final String FOLLOWED_BY = " <-> ";
+
+    @Override
+    public Specification<News> matches(String text) {
+        return matching(toTsQuery(text, AND));
+    }
+
+    @Override
+    public Specification<News> matchesPhrase(String phrase) {
+        return matching(toTsQuery(phrase, FOLLOWED_BY));
+    }
+
+    private static Specification<News> matching(String tsQuery) {
+        return (root, query, cb) -> {
+            if (tsQuery == null) {
+                return cb.conjunction();
+            }
+            return cb.isTrue(cb.function(MATCH_FUNCTION, Boolean.class, root.get(ID), cb.literal(tsQuery)));
+        };
+    }
+
+    @Override
+    public Specification<News> rankedBy(String text) {
+        return (root, query, cb) -> {
+            String tsQuery = toTsQuery(text, AND);
+            if (tsQuery == null) {
+                return cb.conjunction();
+            }
+            if (!Long.class.equals(query.getResultType())) {
+                query.orderBy(
+                        cb.desc(cb.function(RANK_FUNCTION, Float.class, root.get(ID), cb.literal(tsQuery))),
+                        cb.desc(root.get(ID)));
+            }
+            return matches(text).toPredicate(root, query, cb);
+        };
+    }
+
+    static String toTsQuery(String text, String operator) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        String tsQuery = Arrays.stream(text.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(token -> !token.isEmpty())
+                .map(token -> token + ":*")
+                .collect(Collectors.joining(operator));
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+}
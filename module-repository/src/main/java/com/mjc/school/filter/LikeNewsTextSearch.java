@@ -0,0 +1,44 @@
+package com.mjc.school.filter;
+
+import com.mjc.school.model.News;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+@Component
+@ConditionalOnProperty(name = NewsTextSearch.BACKEND_PROPERTY, havingValue = "like", matchIfMissing = true)
+public class LikeNewsTextSearch implements NewsTextSearch {
+    private static final String PERCENTAGE_SYMBOL = "%";
+    private static final String WHITESPACE = "\\s+";
+
+    @Override
+    public Specification<News> matches(String text) {
+        return NewsSpecification.searchByText(text);
+    }
+
+    @Override
+    public Specification<News> matchesPhrase(String phrase) {
+        return NewsSpecification.searchByText(phrase);
+    }
+
+    @Override
+    public Specification<News> rankedBy(String text) {
+        return (root, query, cb) -> {
+            if (text == null || text.isBlank()) {
+                return cb.conjunction();
+            }
+            if (!Long.class.equals(query.getResultType())) {
+                String pattern = PERCENTAGE_SYMBOL + text.toLowerCase() + PERCENTAGE_SYMBOL;
+                query.orderBy(
+                        cb.desc(cb.<Integer>selectCase()
+                                .when(cb.like(cb.lower(root.get("title")), pattern), 1)
+                                .otherwise(0)),
+                        cb.desc(root.get("createDate")));
+            }
+            return Specification.allOf(Arrays.stream(text.strip().split(WHITESPACE)).map(this::matches).toList())
+                    .toPredicate(root, query, cb);
+        };
+    }
+}
@@ -1,16 +1,21 @@
 package com.mjc.school.filter;
 
 import com.mjc.school.model.News;
+import com.mjc.school.model.SearchParameters;
 import com.mjc.school.model.Tag;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 public class NewsSpecification {
+    private static final String PERCENTAGE_SYMBOL = "%";
 
     public static Specification<News> searchByText(String value) {
         return EntitySpecification.searchByFields(List.of("title", "content"), value);
@@ -34,5 +39,51 @@ public class NewsSpecification {
         };
     }
 
-}
+    public static Specification<News> hasAuthorName(String authorName) {
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("author").get("name")), authorName.toLowerCase());
+    }
+
+    public static Specification<News> createdBetween(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createDate"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("createDate"), to));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
 
+    public static Specification<News> byParams(SearchParameters params) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (params.newsTitle() != null) {
+                predicates.add(cb.like(cb.lower(root.get("title")), PERCENTAGE_SYMBOL + params.newsTitle().toLowerCase() + PERCENTAGE_SYMBOL));
+            }
+            if (params.newsContent() != null) {
+                predicates.add(cb.like(cb.lower(root.get("content")), PERCENTAGE_SYMBOL + params.newsContent().toLowerCase() + PERCENTAGE_SYMBOL));
+            }
+            if (params.authorName() != null) {
+                predicates.add(cb.equal(cb.lower(root.get("author").get("name")), params.authorName().toLowerCase()));
+            }
+            if (params.tagIds() != null || params.tagNames() != null) {
+                Subquery<Long> subquery = query.subquery(Long.class);
+                Root<News> subRoot = subquery.from(News.class);
+                Join<News, Tag> subTags = subRoot.join("tags", JoinType.INNER);
+
+                List<Predicate> tagPredicates = new ArrayList<>();
+                if (params.tagIds() != null) {
+                    tagPredicates.add(subTags.get("id").in(params.tagIds().stream().map(Integer::longValue).toList()));
+                }
+                if (params.tagNames() != null) {
+                    tagPredicates.add(cb.lower(subTags.get("name")).in(params.tagNames()));
+                }
+                subquery.select(subRoot.get("id")).where(tagPredicates.toArray(new Predicate[0]));
+                predicates.add(root.get("id").in(subquery));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.mjc.school.filter;
+
+import com.mjc.school.model.News;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface NewsTextSearch {
+    String BACKEND_PROPERTY = "news.search.backend";
+
+    Specification<News> matches(String text);
+
+    Specification<News> matchesPhrase(String phrase);
+
+    Specification<News> rankedBy(String text);
+}
@@ -1,5 +1,6 @@
 package com.mjc.school.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,6 +12,11 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -22,8 +28,12 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "authors")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Author.CACHE_REGION)
 @EntityListeners(AuditingEntityListener.class)
 public class Author implements BaseEntity<Long> {
+    public static final String CACHE_REGION = "authors";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -39,7 +49,17 @@ public class Author implements BaseEntity<Long> {
     @LastModifiedDate
     private LocalDateTime lastUpdateDate;
 
+    @Column(name = "news_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long newsCount;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
+    @BatchSize(size = 50)
     private List<News> news = new ArrayList<>();
 
     @OneToOne
@@ -98,6 +118,22 @@ public class Author implements BaseEntity<Long> {
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public long getNewsCount() {
+        return newsCount;
+    }
+
+    public void setNewsCount(long newsCount) {
+        this.newsCount = newsCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public List<News> getNews() {
         return news;
     }
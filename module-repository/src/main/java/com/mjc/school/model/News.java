@@ -8,12 +8,18 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -24,9 +30,15 @@ import java.util.List;
 import java.util.Objects;
 
 @Entity
-@Table(name = "news")
+@Table(name = "news", indexes = {
+        @Index(name = "idx_news_create_date_id", columnList = "create_date, id"),
+        @Index(name = "idx_news_title_id", columnList = "title, id")})
 @EntityListeners(AuditingEntityListener.class)
 public class News implements BaseEntity<Long> {
+    public static final String TAGS_CACHE_REGION = "news-tags";
+    public static final int EXCERPT_LENGTH = 150;
+    private static final String ELLIPSIS = "\u2026";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -37,6 +49,9 @@ public class News implements BaseEntity<Long> {
     @Column(name = "content", columnDefinition = "TEXT", nullable = false)
     private String content;
 
+    @Column(name = "excerpt")
+    private String excerpt;
+
     @Column(name = "create_date", nullable = false)
     @CreatedDate
     private LocalDateTime createDate;
@@ -45,6 +60,15 @@ public class News implements BaseEntity<Long> {
     @LastModifiedDate
     private LocalDateTime lastUpdateDate;
 
+    @Column(name = "comment_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long commentCount;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    @ColumnDefault("0")
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "author_id", nullable = false)
     private Author author;
@@ -52,7 +76,9 @@ public class News implements BaseEntity<Long> {
     @OneToMany(mappedBy = "news", cascade = CascadeType.ALL)
     private List<Comment> comments = new ArrayList<>();
 
-    @ManyToMany(fetch = FetchType.EAGER, cascade = {CascadeType.MERGE, CascadeType.PERSIST})
+    @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.MERGE, CascadeType.PERSIST})
+    @BatchSize(size = 50)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = News.TAGS_CACHE_REGION)
     @JoinTable(
             name = "news_tags",
             joinColumns = @JoinColumn(name = "news_id"),
@@ -65,6 +91,7 @@ public class News implements BaseEntity<Long> {
     public News(String title, String content, LocalDateTime createDate, LocalDateTime lastUpdateDate, Author author, List<Tag> tags, List<Comment> comments) {
         this.title = title;
         this.content = content;
+        this.excerpt = excerptOf(content);
         this.createDate = createDate;
         this.lastUpdateDate = lastUpdateDate;
         this.author = author;
@@ -96,6 +123,18 @@ public class News implements BaseEntity<Long> {
 
     public void setContent(String content) {
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public static String excerptOf(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= EXCERPT_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, EXCERPT_LENGTH)) + ELLIPSIS;
     }
 
     public LocalDateTime getCreateDate() {
@@ -114,6 +153,22 @@ public class News implements BaseEntity<Long> {
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Author getAuthor() {
         return author;
     }
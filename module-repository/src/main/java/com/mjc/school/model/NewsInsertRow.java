@@ -0,0 +1,4 @@
+package com.mjc.school.model;
+
+public record NewsInsertRow(String title, String content, Long authorId) {
+}
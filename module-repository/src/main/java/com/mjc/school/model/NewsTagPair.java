@@ -0,0 +1,4 @@
+package com.mjc.school.model;
+
+public record NewsTagPair(Long newsId, Long tagId) {
+}
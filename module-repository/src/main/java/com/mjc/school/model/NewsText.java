@@ -0,0 +1,4 @@
+package com.mjc.school.model;
+
+public record NewsText(Long id, String title, String content) {
+}
@@ -8,4 +8,8 @@ public record SearchParameters(
         String authorName,
         List<Integer> tagIds,
         List<String> tagNames) {
+
+    public boolean isEmpty() {
+        return newsTitle == null && newsContent == null && authorName == null && tagIds == null && tagNames == null;
+    }
 }
@@ -0,0 +1,6 @@
+package com.mjc.school.model.projection;
+
+import java.time.LocalDateTime;
+
+public record AuthorRow(Long id, String name, LocalDateTime createDate, LocalDateTime lastUpdateDate, Long newsCount) {
+}
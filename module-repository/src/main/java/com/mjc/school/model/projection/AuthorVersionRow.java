@@ -0,0 +1,9 @@
+package com.mjc.school.model.projection;
+
+import java.time.LocalDateTime;
+
+public record AuthorVersionRow(long version, long newsCount, LocalDateTime lastUpdateDate,
+                               long newsRows, long newsIdSum, long newsVersionSum, long newsCommentCountSum,
+                               LocalDateTime newsLastUpdateDate,
+                               long tagRows, long tagIdSum, long tagVersionSum) {
+}
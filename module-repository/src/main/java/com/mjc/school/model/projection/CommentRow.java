@@ -0,0 +1,6 @@
+package com.mjc.school.model.projection;
+
+import java.time.LocalDateTime;
+
+public record CommentRow(Long id, String content, LocalDateTime createDate, LocalDateTime lastUpdateDate, Long newsId) {
+}
@@ -0,0 +1,6 @@
+package com.mjc.school.model.projection;
+
+import java.time.LocalDateTime;
+
+public record CommentVersionRow(long version, LocalDateTime lastUpdateDate, Long newsId) {
+}
@@ -0,0 +1,18 @@
+package com.mjc.school.model.projection;
+
+import java.time.LocalDateTime;
+
+public record NewsRow(
+        Long id,
+        String title,
+        String content,
+        String excerpt,
+        LocalDateTime createDate,
+        LocalDateTime lastUpdateDate,
+        Long commentCount,
+        Long authorId,
+        String authorName,
+        LocalDateTime authorCreateDate,
+        LocalDateTime authorLastUpdateDate,
+        Long authorNewsCount) {
+}
@@ -0,0 +1,4 @@
+package com.mjc.school.model.projection;
+
+public record NewsTagRow(Long newsId, Long tagId, String tagName) {
+}
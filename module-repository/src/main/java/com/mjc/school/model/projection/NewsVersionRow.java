@@ -0,0 +1,8 @@
+package com.mjc.school.model.projection;
+
+import java.time.LocalDateTime;
+
+public record NewsVersionRow(long version, long commentCount, LocalDateTime lastUpdateDate,
+                             long authorVersion, long authorNewsCount, LocalDateTime authorLastUpdateDate,
+                             Long tagId, Long tagVersion) {
+}
@@ -0,0 +1,4 @@
+package com.mjc.school.model.projection;
+
+public record TagRow(Long id, String name) {
+}
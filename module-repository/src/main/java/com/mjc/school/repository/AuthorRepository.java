@@ -1,20 +1,32 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.model.Author;
+import com.mjc.school.model.projection.AuthorRow;
+import com.mjc.school.model.projection.AuthorVersionRow;
+import com.mjc.school.repository.support.SliceableRepository;
 import io.micrometer.common.lang.NonNull;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public interface AuthorRepository extends SliceableRepository<Author, Long> {
+    String[] ROW_PATHS = {"id", "name", "createDate", "lastUpdateDate", "newsCount"};
 
-public interface AuthorRepository extends JpaRepository<Author, Long>, JpaSpecificationExecutor<Author> {
     @Override
     @NonNull
     @EntityGraph(attributePaths = "news")
@@ -23,21 +35,89 @@ public interface AuthorRepository extends JpaRepository<Author, Long>, JpaSpecif
     @Override
     @NonNull
     @EntityGraph(attributePaths = "news")
-    Page<Author> findAll(@NonNull Pageable pageable);
+    Optional<Author> findById(@NonNull Long id);
 
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Page<Author> findAll(Specification<Author> spec, @NonNull Pageable pageable);
+    default Page<AuthorRow> findRows(Specification<Author> spec, Pageable pageable) {
+        return findProjected(spec, pageable, AuthorRow.class, ROW_PATHS);
+    }
 
-    @Override
-    @NonNull
-    @EntityGraph(attributePaths = "news")
-    Optional<Author> findById(@NonNull Long id);
+    default Page<AuthorRow> findRows(Specification<Author> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjected(spec, pageable, AuthorRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    default Slice<AuthorRow> findRowSlice(Specification<Author> spec, Pageable pageable) {
+        return findProjectedSlice(spec, pageable, AuthorRow.class, ROW_PATHS);
+    }
+
+    default Slice<AuthorRow> findRowSlice(Specification<Author> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjectedSlice(spec, pageable, AuthorRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    default Stream<AuthorRow> streamRows(Specification<Author> spec, Sort sort, int fetchSize) {
+        return streamProjected(spec, sort, fetchSize, AuthorRow.class, ROW_PATHS);
+    }
 
     @Query("SELECT a FROM Author a INNER JOIN a.news n WHERE n.id = :newsId")
     Optional<Author> readByNewsId(@Param("newsId") Long newsId);
 
     @Query("SELECT a FROM Author a INNER JOIN a.user n WHERE n.username = :username")
     Optional<Author> readByUserUsername(@Param("username") String username);
+
+    @Query("SELECT n.id FROM News n WHERE n.author.id = :authorId")
+    List<Long> readNewsIdsById(@Param("authorId") Long authorId);
+
+    @Query("""
+            SELECT new com.mjc.school.model.projection.AuthorVersionRow(a.version, a.newsCount, a.lastUpdateDate,
+                (SELECT COUNT(n) FROM News n WHERE n.author = a),
+                (SELECT COALESCE(SUM(n.id), 0) FROM News n WHERE n.author = a),
+                (SELECT COALESCE(SUM(n.version), 0) FROM News n WHERE n.author = a),
+                (SELECT COALESCE(SUM(n.commentCount), 0) FROM News n WHERE n.author = a),
+                (SELECT MAX(n.lastUpdateDate) FROM News n WHERE n.author = a),
+                (SELECT COUNT(t) FROM News n JOIN n.tags t WHERE n.author = a),
+                (SELECT COALESCE(SUM(t.id), 0) FROM News n JOIN n.tags t WHERE n.author = a),
+                (SELECT COALESCE(SUM(t.version), 0) FROM News n JOIN n.tags t WHERE n.author = a))
+            FROM Author a WHERE a.id = :id""")
+    Optional<AuthorVersionRow> findVersionRowById(@Param("id") Long id);
+
+    @Query("SELECT COALESCE(MAX(a.id), 0) FROM Author a")
+    long findMaxId();
+
+    @Query("SELECT n.author.id FROM News n WHERE n.id = :newsId")
+    Optional<Long> findIdByNewsId(@Param("newsId") Long newsId);
+
+    default int adjustNewsCount(Long id, long delta) {
+        int updated = updateNewsCount(id, delta);
+        evictCached(List.of(id));
+        return updated;
+    }
+
+    default int decrementNewsCountByNewsId(Long newsId) {
+        return findIdByNewsId(newsId).map(id -> adjustNewsCount(id, -1)).orElse(0);
+    }
+
+    @Modifying
+    @Query(value = "UPDATE authors SET news_count = news_count + :delta WHERE id = :id", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_UPDATE_SPACE))
+    int updateNewsCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query("DELETE FROM Author a WHERE a.id = :id")
+    int deleteAuthorById(@Param("id") Long id);
+
+    default int reconcileNewsCounts(long fromId, long toId) {
+        int updated = updateNewsCounts(fromId, toId);
+        if (updated > 0) {
+            evictCached(LongStream.rangeClosed(fromId, toId).boxed().toList());
+        }
+        return updated;
+    }
+
+    @Modifying
+    @Query(value = """
+            UPDATE authors SET news_count = (SELECT COUNT(*) FROM news n WHERE n.author_id = authors.id)
+            WHERE id BETWEEN :fromId AND :toId
+              AND news_count <> (SELECT COUNT(*) FROM news n WHERE n.author_id = authors.id)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_UPDATE_SPACE))
+    int updateNewsCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
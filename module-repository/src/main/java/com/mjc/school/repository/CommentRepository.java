@@ -1,20 +1,27 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.model.Comment;
+import com.mjc.school.model.projection.CommentRow;
+import com.mjc.school.model.projection.CommentVersionRow;
+import com.mjc.school.repository.support.SliceableRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpecificationExecutor<Comment> {
+public interface CommentRepository extends SliceableRepository<Comment, Long> {
+    String[] ROW_PATHS = {"id", "content", "createDate", "lastUpdateDate", "news.id"};
 
     @Override
     @NonNull
@@ -31,11 +38,48 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, JpaSpec
     @EntityGraph(attributePaths = "news")
     Page<Comment> findAll(Specification<Comment> spec, @NonNull Pageable pageable);
 
+    @Override
+    @NonNull
+    @EntityGraph(attributePaths = "news")
+    Slice<Comment> findSlice(Specification<Comment> spec, @NonNull Pageable pageable);
+
     @Override
     @NonNull
     @EntityGraph(attributePaths = "news")
     Optional<Comment> findById(@NonNull Long id);
 
-    @Query("SELECT c FROM Comment c WHERE c.news.id = :newsId")
-    Page<Comment> readByNewsId(@Param("newsId") Long newsId, Pageable pageable);
+    @Query("SELECT new com.mjc.school.model.projection.CommentVersionRow(c.version, c.lastUpdateDate, c.news.id) FROM Comment c WHERE c.id = :id")
+    Optional<CommentVersionRow> findVersionRowById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    int deleteCommentById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.news.id = :newsId")
+    int deleteByNewsId(@Param("newsId") Long newsId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.news.id IN (SELECT n.id FROM News n WHERE n.author.id = :authorId)")
+    int deleteByAuthorId(@Param("authorId") Long authorId);
+
+    default Page<CommentRow> findRows(Specification<Comment> spec, Pageable pageable) {
+        return findProjected(spec, pageable, CommentRow.class, ROW_PATHS);
+    }
+
+    default Page<CommentRow> findRows(Specification<Comment> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjected(spec, pageable, CommentRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    default Slice<CommentRow> findRowSlice(Specification<Comment> spec, Pageable pageable) {
+        return findProjectedSlice(spec, pageable, CommentRow.class, ROW_PATHS);
+    }
+
+    default Slice<CommentRow> findRowSlice(Specification<Comment> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjectedSlice(spec, pageable, CommentRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    default Stream<CommentRow> streamRows(Specification<Comment> spec, Sort sort, int fetchSize) {
+        return streamProjected(spec, sort, fetchSize, CommentRow.class, ROW_PATHS);
+    }
 }
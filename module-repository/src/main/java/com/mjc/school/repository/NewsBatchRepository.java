@@ -0,0 +1,162 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.model.Author;
+import com.mjc.school.model.News;
+import com.mjc.school.model.NewsInsertRow;
+import com.mjc.school.model.NewsTagPair;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Repository
+public class NewsBatchRepository {
+    private static final String INSERT_NEWS =
+            "INSERT INTO news(title, content, excerpt, create_date, last_update_date, author_id) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_TAG = "INSERT INTO tags(name) VALUES (?)";
+    private static final String INSERT_NEWS_TAG = "INSERT INTO news_tags(news_id, tag_id) VALUES (:newsId, :tagId)";
+    private static final String SELECT_AUTHORS_BY_NAMES = "SELECT id, name FROM authors WHERE name IN (:names)";
+    private static final String SELECT_TAGS_BY_NAMES = "SELECT id, name FROM tags WHERE name IN (:names)";
+    private static final String INCREMENT_AUTHOR_NEWS_COUNT = "UPDATE authors SET news_count = news_count + ? WHERE id = ?";
+    private static final String SELECT_TITLES = "SELECT title FROM news WHERE title IN (:titles)";
+    private static final String ID = "id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public NewsBatchRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public Map<String, Long> findAuthorIdsByNames(Collection<String> names) {
+        return findIdsByNames(SELECT_AUTHORS_BY_NAMES, names);
+    }
+
+    public Map<String, Long> findTagIdsByNames(Collection<String> names) {
+        return findIdsByNames(SELECT_TAGS_BY_NAMES, names);
+    }
+
+    public Set<String> findExistingTitles(Collection<String> titles) {
+        if (titles.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(SELECT_TITLES, Map.of("titles", titles), String.class));
+    }
+
+    public Map<String, Long> insertTags(List<String> names) {
+        List<Long> ids = insertReturningIds(INSERT_TAG, names.size(), (ps, i) -> ps.setString(1, names.get(i)));
+        Map<String, Long> inserted = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            inserted.put(names.get(i), ids.get(i));
+        }
+        return inserted;
+    }
+
+    public List<Long> insertNews(List<NewsInsertRow> rows, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return insertReturningIds(INSERT_NEWS, rows.size(), (ps, i) -> {
+            NewsInsertRow row = rows.get(i);
+            ps.setString(1, row.title());
+            ps.setString(2, row.content());
+            ps.setString(3, News.excerptOf(row.content()));
+            ps.setTimestamp(4, timestamp);
+            ps.setTimestamp(5, timestamp);
+            ps.setLong(6, row.authorId());
+        });
+    }
+
+    public void insertNewsTags(List<NewsTagPair> pairs) {
+        if (pairs.isEmpty()) {
+            return;
+        }
+        SqlParameterSource[] batch = pairs.stream()
+                .map(pair -> new MapSqlParameterSource()
+                        .addValue("newsId", pair.newsId())
+                        .addValue("tagId", pair.tagId()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(INSERT_NEWS_TAG, batch);
+    }
+
+    public void incrementAuthorNewsCounts(Map<Long, Long> newsCountsByAuthorId) {
+        if (newsCountsByAuthorId.isEmpty()) {
+            return;
+        }
+        List<Object[]> batch = newsCountsByAuthorId.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INCREMENT_AUTHOR_NEWS_COUNT, batch);
+        Set<Long> authorIds = Set.copyOf(newsCountsByAuthorId.keySet());
+        evictAuthors(authorIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictAuthors(authorIds);
+                }
+            });
+        }
+    }
+
+    private void evictAuthors(Set<Long> authorIds) {
+        authorIds.forEach(id -> entityManagerFactory.getCache().evict(Author.class, id));
+    }
+
+    private Map<String, Long> findIdsByNames(String sql, Collection<String> names) {
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) {
+            return ids;
+        }
+        jdbcTemplate.query(sql, Map.of("names", names), (RowCallbackHandler) rs -> ids.put(rs.getString("name"), rs.getLong(ID)));
+        return ids;
+    }
+
+    private List<Long> insertReturningIds(String sql, int size, StatementSetter setter) {
+        if (size == 0) {
+            return List.of();
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                con -> con.prepareStatement(sql, new String[]{ID}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        setter.setValues(ps, i);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return size;
+                    }
+                },
+                keyHolder);
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.get(ID)).longValue())
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface StatementSetter {
+        void setValues(PreparedStatement ps, int i) throws SQLException;
+    }
+}
@@ -1,24 +1,41 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.model.News;
-import com.mjc.school.model.SearchParameters;
+import com.mjc.school.model.NewsTagPair;
+import com.mjc.school.model.NewsText;
+import com.mjc.school.model.projection.IdRow;
+import com.mjc.school.model.projection.NewsRow;
+import com.mjc.school.model.projection.NewsTagRow;
+import com.mjc.school.model.projection.NewsVersionRow;
+import com.mjc.school.repository.support.SliceableRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface NewsRepository extends SliceableRepository<News, Long> {
+    String[] ROW_PATHS = {"id", "title", "content", "excerpt", "createDate", "lastUpdateDate", "commentCount",
+            "author.id", "author.name", "author.createDate", "author.lastUpdateDate", "author.newsCount"};
+    String TAGS = "tags";
 
-public interface NewsRepository extends JpaRepository<News, Long>, JpaSpecificationExecutor<News> {
     @Override
     @NonNull
-    @EntityGraph(attributePaths = {"news"})
+    @EntityGraph(attributePaths = {"author"})
     List<News> findAll();
 
     @Override
@@ -31,21 +48,138 @@ public interface NewsRepository extends JpaRepository<News, Long>, JpaSpecificat
     @EntityGraph(attributePaths = {"author"})
     Page<News> findAll(Specification<News> spec, @NonNull Pageable pageable);
 
+    @Override
+    @NonNull
+    @EntityGraph(attributePaths = {"author"})
+    Slice<News> findSlice(Specification<News> spec, @NonNull Pageable pageable);
+
     @Override
     @NonNull
     @EntityGraph(attributePaths = {"author"})
     Optional<News> findById(@NonNull Long id);
 
-    @EntityGraph(attributePaths = {"author", "tags"})
+    default Page<NewsRow> findRows(Specification<News> spec, Pageable pageable) {
+        return findProjected(spec, pageable, NewsRow.class, ROW_PATHS);
+    }
+
+    default Page<NewsRow> findRows(Specification<News> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjected(spec, pageable, NewsRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    default Slice<NewsRow> findRowSlice(Specification<News> spec, Pageable pageable) {
+        return findProjectedSlice(spec, pageable, NewsRow.class, ROW_PATHS);
+    }
+
+    default Slice<NewsRow> findRowSlice(Specification<News> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjectedSlice(spec, pageable, NewsRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    default List<Long> findIds(Specification<News> spec, Sort sort) {
+        return findProjectedAll(spec, sort, IdRow.class, "id").stream().map(IdRow::id).toList();
+    }
+
+    default Stream<NewsRow> streamRows(Specification<News> spec, Sort sort, int fetchSize) {
+        return streamProjected(spec, sort, fetchSize, NewsRow.class, ROW_PATHS);
+    }
+
     @Query("""
-                SELECT n FROM News n
-                LEFT JOIN n.author a
-                LEFT JOIN n.tags t
-                WHERE (:#{#params.newsTitle} IS NULL OR LOWER(n.title) LIKE LOWER(CONCAT('%', :#{#params.newsTitle}, '%')))
-                AND (:#{#params.newsContent} IS NULL OR LOWER(n.content) LIKE LOWER(CONCAT('%', :#{#params.newsContent}, '%')))
-                AND (:#{#params.authorName} IS NULL OR LOWER(a.name) = LOWER(:#{#params.authorName}))
-                AND (:#{#params.tagIds} IS NULL OR t.id IN (:#{#params.tagIds}))
-                AND (:#{#params.tagNames} IS NULL OR LOWER(t.name) IN (:#{#params.tagNames}))
+            SELECT new com.mjc.school.model.projection.NewsRow(n.id, n.title, n.content, n.excerpt, n.createDate, n.lastUpdateDate, n.commentCount,
+                a.id, a.name, a.createDate, a.lastUpdateDate, a.newsCount)
+            FROM News n JOIN n.author a WHERE n.id IN :ids
             """)
-    Page<News> readByParams(@Param("params") SearchParameters params, Pageable pageable);
+    List<NewsRow> findRowsByIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.mjc.school.model.projection.NewsRow(n.id, n.title, n.content, n.excerpt, n.createDate, n.lastUpdateDate, n.commentCount,
+                a.id, a.name, a.createDate, a.lastUpdateDate, a.newsCount)
+            FROM News n JOIN n.author a WHERE a.id IN :authorIds ORDER BY n.id
+            """)
+    List<NewsRow> findRowsByAuthorIds(@Param("authorIds") Collection<Long> authorIds);
+
+    @Query("SELECT new com.mjc.school.model.projection.NewsTagRow(n.id, t.id, t.name) FROM News n JOIN n.tags t WHERE n.id IN :ids ORDER BY t.id")
+    List<NewsTagRow> findTagRowsByNewsIds(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.mjc.school.model.projection.NewsVersionRow(n.version, n.commentCount, n.lastUpdateDate,
+                a.version, a.newsCount, a.lastUpdateDate, t.id, t.version)
+            FROM News n JOIN n.author a LEFT JOIN n.tags t WHERE n.id = :id ORDER BY t.id""")
+    List<NewsVersionRow> findVersionRowsById(@Param("id") Long id);
+
+    @Query("SELECT new com.mjc.school.model.NewsText(n.id, n.title, n.content) FROM News n")
+    Slice<NewsText> findAllTexts(Pageable pageable);
+
+    @Query("SELECT MAX(n.lastUpdateDate) FROM News n")
+    Optional<LocalDateTime> findMaxLastUpdateDate();
+
+    @Query("SELECT n.id FROM News n JOIN n.tags t WHERE t.name IN :names GROUP BY n.id HAVING COUNT(DISTINCT t.name) = :count")
+    List<Long> findIdsByAllTagNames(@Param("names") List<String> names, @Param("count") long count);
+
+    @Query("SELECT n.id FROM News n JOIN n.tags t WHERE n.id IN :ids AND t.name IN :names GROUP BY n.id HAVING COUNT(DISTINCT t.name) = :count")
+    List<Long> findIdsByAllTagNamesAmong(@Param("names") List<String> names, @Param("count") long count, @Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.id FROM News n")
+    List<Long> findAllIds();
+
+    @Query("SELECT new com.mjc.school.model.NewsTagPair(n.id, t.id) FROM News n JOIN n.tags t")
+    List<NewsTagPair> findAllNewsTagPairs();
+
+    @Query("SELECT n.id FROM News n JOIN n.tags t WHERE t.id = :tagId")
+    List<Long> findIdsByTagId(@Param("tagId") Long tagId);
+
+    @Modifying
+    @Query("DELETE FROM News n WHERE n.id = :id")
+    int deleteNewsById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM News n WHERE n.author.id = :authorId")
+    int deleteByAuthorId(@Param("authorId") Long authorId);
+
+    @Query("SELECT n.id FROM News n WHERE n.author.id = :authorId")
+    List<Long> findIdsByAuthorId(@Param("authorId") Long authorId);
+
+    default int deleteTagLinksByNewsId(Long newsId) {
+        int deleted = deleteTagLinksOfNews(newsId);
+        evictCachedCollection(TAGS, List.of(newsId));
+        return deleted;
+    }
+
+    default int deleteTagLinksByAuthorId(Long authorId) {
+        List<Long> newsIds = findIdsByAuthorId(authorId);
+        int deleted = deleteTagLinksOfAuthor(authorId);
+        evictCachedCollection(TAGS, newsIds);
+        return deleted;
+    }
+
+    @Modifying
+    @Query(value = "DELETE FROM news_tags WHERE news_id = :newsId", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_UPDATE_SPACE))
+    int deleteTagLinksOfNews(@Param("newsId") Long newsId);
+
+    @Modifying
+    @Query(value = "DELETE FROM news_tags WHERE news_id IN (SELECT id FROM news WHERE author_id = :authorId)", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_UPDATE_SPACE))
+    int deleteTagLinksOfAuthor(@Param("authorId") Long authorId);
+
+    @Modifying
+    @Query(value = "UPDATE news SET comment_count = comment_count - 1 WHERE id = (SELECT news_id FROM comments WHERE id = :commentId)",
+            nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_UPDATE_SPACE))
+    int decrementCommentCountByCommentId(@Param("commentId") Long commentId);
+
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM News n")
+    long findMaxId();
+
+    @Modifying
+    @Query(value = "UPDATE news SET comment_count = comment_count + :delta WHERE id = :id", nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_UPDATE_SPACE))
+    int adjustCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = """
+            UPDATE news SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.news_id = news.id)
+            WHERE id BETWEEN :fromId AND :toId
+              AND comment_count <> (SELECT COUNT(*) FROM comments c WHERE c.news_id = news.id)
+            """, nativeQuery = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = NATIVE_UPDATE_SPACE))
+    int reconcileCommentCounts(@Param("fromId") long fromId, @Param("toId") long toId);
 }
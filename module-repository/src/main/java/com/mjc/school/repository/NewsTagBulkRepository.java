@@ -0,0 +1,116 @@
+package com.mjc.school.repository;
+
+import com.mjc.school.model.News;
+import com.mjc.school.model.SearchParameters;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+public class NewsTagBulkRepository {
+    private static final String TAGS_ROLE = News.class.getName() + ".tags";
+    private static final String PERCENTAGE_SYMBOL = "%";
+    private static final String DELETE_LINKS = "DELETE FROM news_tags WHERE tag_id = :tagId";
+    private static final String COPY_LINKS = """
+            INSERT INTO news_tags(news_id, tag_id)
+            SELECT nt.news_id, :targetId FROM news_tags nt
+            WHERE nt.tag_id = :sourceId
+              AND NOT EXISTS (SELECT 1 FROM news_tags t WHERE t.news_id = nt.news_id AND t.tag_id = :targetId)
+            """;
+    private static final String ADD_LINKS = """
+            INSERT INTO news_tags(news_id, tag_id)
+            SELECT n.id, :tagId FROM news n JOIN authors a ON a.id = n.author_id
+            WHERE NOT EXISTS (SELECT 1 FROM news_tags t WHERE t.news_id = n.id AND t.tag_id = :tagId)""";
+    private static final String REMOVE_LINKS = """
+            DELETE FROM news_tags WHERE tag_id = :tagId AND news_id IN (
+                SELECT n.id FROM news n JOIN authors a ON a.id = n.author_id
+                WHERE 1 = 1""";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    public NewsTagBulkRepository(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    public int deleteLinks(long tagId) {
+        return evictingTags(jdbcTemplate.update(DELETE_LINKS, new MapSqlParameterSource("tagId", tagId)));
+    }
+
+    public int copyLinks(long sourceId, long targetId) {
+        return evictingTags(jdbcTemplate.update(COPY_LINKS, new MapSqlParameterSource()
+                .addValue("sourceId", sourceId)
+                .addValue("targetId", targetId)));
+    }
+
+    public int addLinks(long tagId, SearchParameters params) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("tagId", tagId);
+        return evictingTags(jdbcTemplate.update(ADD_LINKS + filter(params, parameters), parameters));
+    }
+
+    public int removeLinks(long tagId, SearchParameters params) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource("tagId", tagId);
+        return evictingTags(jdbcTemplate.update(REMOVE_LINKS + filter(params, parameters) + ")", parameters));
+    }
+
+    private static String filter(SearchParameters params, MapSqlParameterSource parameters) {
+        List<String> predicates = new ArrayList<>();
+        if (params.newsTitle() != null) {
+            predicates.add("LOWER(n.title) LIKE :title");
+            parameters.addValue("title", PERCENTAGE_SYMBOL + params.newsTitle().toLowerCase() + PERCENTAGE_SYMBOL);
+        }
+        if (params.newsContent() != null) {
+            predicates.add("LOWER(n.content) LIKE :content");
+            parameters.addValue("content", PERCENTAGE_SYMBOL + params.newsContent().toLowerCase() + PERCENTAGE_SYMBOL);
+        }
+        if (params.authorName() != null) {
+            predicates.add("LOWER(a.name) = :authorName");
+            parameters.addValue("authorName", params.authorName().toLowerCase());
+        }
+        if (params.tagIds() != null || params.tagNames() != null) {
+            List<String> tagPredicates = new ArrayList<>();
+            if (params.tagIds() != null) {
+                tagPredicates.add("tg.id IN (:tagIds)");
+                parameters.addValue("tagIds", params.tagIds().stream().map(Integer::longValue).toList());
+            }
+            if (params.tagNames() != null) {
+                tagPredicates.add("LOWER(tg.name) IN (:tagNames)");
+                parameters.addValue("tagNames", params.tagNames());
+            }
+            predicates.add("n.id IN (SELECT nt.news_id FROM news_tags nt JOIN tags tg ON tg.id = nt.tag_id WHERE "
+                    + String.join(" AND ", tagPredicates) + ")");
+        }
+        StringBuilder sql = new StringBuilder();
+        predicates.forEach(predicate -> sql.append(" AND ").append(predicate));
+        return sql.toString();
+    }
+
+    private int evictingTags(int updated) {
+        if (updated > 0) {
+            evictTags();
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evictTags();
+                    }
+                });
+            }
+        }
+        return updated;
+    }
+
+    private void evictTags() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictCollectionData(TAGS_ROLE);
+    }
+}
@@ -1,20 +1,24 @@
 package com.mjc.school.repository;
 
 import com.mjc.school.model.Tag;
+import com.mjc.school.model.projection.TagRow;
+import com.mjc.school.repository.support.SliceableRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
-import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TagRepository extends JpaRepository<Tag, Long>, JpaSpecificationExecutor<Tag> {
+public interface TagRepository extends SliceableRepository<Tag, Long> {
+    String[] ROW_PATHS = {"id", "name"};
 
     @Override
     @NonNull
@@ -36,6 +40,33 @@ public interface TagRepository extends JpaRepository<Tag, Long>, JpaSpecificatio
     @EntityGraph(attributePaths = "news")
     Optional<Tag> findById(@NonNull Long id);
 
-    @Query("SELECT t FROM Tag t INNER JOIN t.news n WHERE n.id = :newsId")
-    Page<Tag> readByNewsId(@Param("newsId") Long newsId, Pageable pageable);
+    @Query("SELECT t.id FROM Tag t WHERE t.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT t.version FROM Tag t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM Tag t WHERE t.id = :id")
+    int deleteTagById(@Param("id") Long id);
+
+    default Page<TagRow> findRows(Specification<Tag> spec, Pageable pageable) {
+        return findProjected(spec, pageable, TagRow.class, ROW_PATHS);
+    }
+
+    default Page<TagRow> findRows(Specification<Tag> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjected(spec, pageable, TagRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    default Slice<TagRow> findRowSlice(Specification<Tag> spec, Pageable pageable) {
+        return findProjectedSlice(spec, pageable, TagRow.class, ROW_PATHS);
+    }
+
+    default Slice<TagRow> findRowSlice(Specification<Tag> spec, Pageable pageable, Collection<String> selectedPaths) {
+        return findProjectedSlice(spec, pageable, TagRow.class, selectedPaths, ROW_PATHS);
+    }
+
+    @Query(value = "SELECT new com.mjc.school.model.projection.TagRow(t.id, t.name) FROM Tag t INNER JOIN t.news n WHERE n.id = :newsId",
+            countQuery = "SELECT COUNT(t) FROM Tag t INNER JOIN t.news n WHERE n.id = :newsId")
+    Page<TagRow> readByNewsId(@Param("newsId") Long newsId, Pageable pageable);
 }
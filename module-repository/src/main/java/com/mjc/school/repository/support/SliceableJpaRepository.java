@@ -0,0 +1,173 @@
+package com.mjc.school.repository.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.hibernate.Cache;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class SliceableJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements SliceableRepository<T, ID> {
+    private final EntityManager entityManager;
+
+    public SliceableJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Slice<T> findSlice(@Nullable Specification<T> spec, Pageable pageable) {
+        return toSlice(getQuery(spec, pageable.getSort()), pageable);
+    }
+
+    @Override
+    public <P> Page<P> findProjected(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection, String... paths) {
+        return findProjected(spec, pageable, projection, null, paths);
+    }
+
+    @Override
+    public <P> Page<P> findProjected(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection,
+                                     @Nullable Collection<String> selectedPaths, String... paths) {
+        TypedQuery<P> query = getProjectedQuery(spec, pageable.getSort(), projection, selectedPaths, paths);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public <P> Slice<P> findProjectedSlice(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection, String... paths) {
+        return findProjectedSlice(spec, pageable, projection, null, paths);
+    }
+
+    @Override
+    public <P> Slice<P> findProjectedSlice(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection,
+                                           @Nullable Collection<String> selectedPaths, String... paths) {
+        return toSlice(getProjectedQuery(spec, pageable.getSort(), projection, selectedPaths, paths), pageable);
+    }
+
+    @Override
+    public <P> List<P> findProjectedAll(@Nullable Specification<T> spec, Sort sort, Class<P> projection, String... paths) {
+        return getProjectedQuery(spec, sort, projection, null, paths).getResultList();
+    }
+
+    @Override
+    public <P> Stream<P> streamProjected(@Nullable Specification<T> spec, Sort sort, int fetchSize, Class<P> projection, String... paths) {
+        return getProjectedQuery(spec, sort, projection, null, paths)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public void evictCached(Collection<ID> ids) {
+        evictNowAndAfterCommit(cache -> ids.forEach(id -> cache.evictEntityData(getDomainClass(), id)));
+    }
+
+    @Override
+    public void evictCachedCollection(String attribute, Collection<ID> ownerIds) {
+        String role = getDomainClass().getName() + "." + attribute;
+        evictNowAndAfterCommit(cache -> ownerIds.forEach(id -> cache.evictCollectionData(role, id)));
+    }
+
+    private void evictNowAndAfterCommit(Consumer<Cache> eviction) {
+        Cache cache = entityManager.getEntityManagerFactory().getCache().unwrap(Cache.class);
+        eviction.accept(cache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.accept(cache);
+                }
+            });
+        }
+    }
+
+    private <P> TypedQuery<P> getProjectedQuery(@Nullable Specification<T> spec, Sort sort, Class<P> projection,
+                                                @Nullable Collection<String> selectedPaths, String... paths) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<P> query = cb.createQuery(projection);
+        Root<T> root = query.from(getDomainClass());
+
+        if (spec != null) {
+            Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        Selection<?>[] selections = new Selection<?>[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            selections[i] = selectedPaths == null || selectedPaths.contains(paths[i])
+                    ? toPath(root, paths[i])
+                    : cb.nullLiteral(attributeType(paths[i]));
+        }
+        query.select(cb.construct(projection, selections));
+
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private Class<?> attributeType(String attributePath) {
+        ManagedType<?> type = entityManager.getMetamodel().managedType(getDomainClass());
+        Class<?> javaType = getDomainClass();
+        for (String attribute : attributePath.split("\\.")) {
+            Attribute<?, ?> typeAttribute = type.getAttribute(attribute);
+            javaType = typeAttribute.getJavaType();
+            if (typeAttribute instanceof SingularAttribute<?, ?> singular && singular.getType() instanceof ManagedType<?> managed) {
+                type = managed;
+            }
+        }
+        return ClassUtils.resolvePrimitiveIfNecessary(javaType);
+    }
+
+    private static Path<?> toPath(Root<?> root, String attributePath) {
+        Path<?> path = root;
+        for (String attribute : attributePath.split("\\.")) {
+            path = path.get(attribute);
+        }
+        return path;
+    }
+
+    private static <R> Slice<R> toSlice(TypedQuery<R> query, Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(query.getResultList());
+        }
+
+        query.setFirstResult((int) pageable.getOffset());
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<R> content = query.getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,40 @@
+package com.mjc.school.repository.support;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.lang.Nullable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@NoRepositoryBean
+public interface SliceableRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+    String NATIVE_UPDATE_SPACE = "native_updates";
+
+    Slice<T> findSlice(@Nullable Specification<T> spec, Pageable pageable);
+
+    <P> Page<P> findProjected(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection, String... paths);
+
+    <P> Page<P> findProjected(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection,
+                              Collection<String> selectedPaths, String... paths);
+
+    <P> Slice<P> findProjectedSlice(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection, String... paths);
+
+    <P> Slice<P> findProjectedSlice(@Nullable Specification<T> spec, Pageable pageable, Class<P> projection,
+                                    Collection<String> selectedPaths, String... paths);
+
+    <P> List<P> findProjectedAll(@Nullable Specification<T> spec, Sort sort, Class<P> projection, String... paths);
+
+    <P> Stream<P> streamProjected(@Nullable Specification<T> spec, Sort sort, int fetchSize, Class<P> projection, String... paths);
+
+    void evictCached(Collection<ID> ids);
+
+    void evictCachedCollection(String attribute, Collection<ID> ownerIds);
+}
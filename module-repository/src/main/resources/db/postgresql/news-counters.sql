@@ -0,0 +1,9 @@
+ALTER TABLE news ADD COLUMN IF NOT EXISTS comment_count BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE authors ADD COLUMN IF NOT EXISTS news_count BIGINT NOT NULL DEFAULT 0;
+
+UPDATE news SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.news_id = news.id)
+WHERE comment_count = 0 AND EXISTS (SELECT 1 FROM comments c WHERE c.news_id = news.id);
+
+UPDATE authors SET news_count = (SELECT COUNT(*) FROM news n WHERE n.author_id = authors.id)
+WHERE news_count = 0 AND EXISTS (SELECT 1 FROM news n WHERE n.author_id = authors.id);
@@ -0,0 +1,4 @@
+ALTER TABLE news ADD COLUMN IF NOT EXISTS excerpt VARCHAR(255);
+
+UPDATE news SET excerpt = CASE WHEN length(content) <= 150 THEN content ELSE left(content, 150) || '…' END
+WHERE excerpt IS NULL;
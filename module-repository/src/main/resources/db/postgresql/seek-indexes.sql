@@ -0,0 +1,7 @@
+CREATE INDEX IF NOT EXISTS idx_news_create_date_id ON news (create_date, id);
+
+CREATE INDEX IF NOT EXISTS idx_news_title_id ON news (title, id);
+
+CREATE INDEX IF NOT EXISTS idx_comments_news_id_id ON comments (news_id, id);
+
+CREATE INDEX IF NOT EXISTS idx_comments_news_id_create_date_id ON comments (news_id, create_date, id);
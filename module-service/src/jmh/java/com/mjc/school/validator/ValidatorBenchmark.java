@@ -0,0 +1,101 @@
+package com.mjc.school.validator;
+
+import com.mjc.school.annotation.Constraint;
+import com.mjc.school.dto.NewsDtoRequest;
+import com.mjc.school.validator.checkers.ConstraintChecker;
+import com.mjc.school.validator.checkers.IdFieldChecker;
+import com.mjc.school.validator.checkers.MinChecker;
+import com.mjc.school.validator.checkers.NotNullChecker;
+import com.mjc.school.validator.checkers.SearchChecker;
+import com.mjc.school.validator.checkers.SortChecker;
+import com.mjc.school.validator.checkers.StringFieldChecker;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toMap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidatorBenchmark {
+    private List<ConstraintChecker> checkers;
+    private Map<Class<? extends Annotation>, ConstraintChecker> checkerMap;
+    private Validator validator;
+    private NewsDtoRequest valid;
+    private NewsDtoRequest invalid;
+
+    @Setup
+    public void setUp() {
+        checkers = List.of(new IdFieldChecker(), new MinChecker(), new NotNullChecker(),
+                new SearchChecker(), new SortChecker(), new StringFieldChecker());
+        checkerMap = checkers.stream().collect(toMap(ConstraintChecker::getType, Function.identity()));
+        validator = new ValidatorImpl(checkers);
+        valid = new NewsDtoRequest("Benchmark title", "Benchmark news content", 1L, List.of(1L, 2L));
+        invalid = new NewsDtoRequest("t", null, -1L, List.of());
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation> reflectiveValid() {
+        return reflectiveValidate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation> compiledValid() {
+        return validator.validate(valid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation> reflectiveInvalid() {
+        return reflectiveValidate(invalid);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation> compiledInvalid() {
+        return validator.validate(invalid);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Set<ConstraintViolation> reflectiveValidate(Object o) {
+        Set<ConstraintViolation> constraintViolations = new HashSet<>();
+        for (Field field : o.getClass().getDeclaredFields()) {
+            for (Annotation annotation : field.getDeclaredAnnotations()) {
+                Class<? extends Annotation> annotationType = annotation.annotationType();
+                if (annotationType.isAnnotationPresent(Constraint.class)) {
+                    try {
+                        if (field.trySetAccessible() && field.canAccess(o)) {
+                            Object value = field.get(o);
+                            ConstraintChecker checker = checkerMap.get(annotationType);
+                            if (checker != null && !checker.check(value, annotation)) {
+                                constraintViolations.add(new ConstraintViolation("Constraint %s violated for value %s"
+                                        .formatted(annotationType.getSimpleName(), value)));
+                            }
+                        }
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            }
+        }
+        return constraintViolations;
+    }
+}
@@ -3,6 +3,7 @@ package com.mjc.school.aspect;
 import com.mjc.school.annotation.Valid;
 import com.mjc.school.exception.ValidationException;
 import com.mjc.school.validator.ConstraintViolation;
+import com.mjc.school.validator.ValidationMetrics;
 import com.mjc.school.validator.Validator;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
@@ -16,7 +17,13 @@ import org.springframework.stereotype.Component;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
@@ -27,10 +34,18 @@ public class ValidationAspect {
     private static final Logger LOGGER = LoggerFactory.getLogger(ValidationAspect.class);
 
     private final Validator validator;
+    private final ValidationMetrics validationMetrics;
+    private final ClassValue<ConcurrentMap<Method, ValidatedMethod>> validatedMethods = new ClassValue<>() {
+        @Override
+        protected ConcurrentMap<Method, ValidatedMethod> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
 
     @Autowired
-    public ValidationAspect(Validator validator) {
+    public ValidationAspect(Validator validator, ValidationMetrics validationMetrics) {
         this.validator = validator;
+        this.validationMetrics = validationMetrics;
     }
 
     @Pointcut(value = "execution(public * * (.., @com.mjc.school.annotation.Valid (*), ..))")
@@ -39,30 +54,51 @@ public class ValidationAspect {
 
     @Before(value = "validAnnotation()")
     public void validateBeforeExecuting(JoinPoint joinPoint) throws NoSuchMethodException {
-        LOGGER.info("Validating args");
         if (joinPoint.getSignature() instanceof MethodSignature signature) {
-            Method targetMethod = getTargetMethod(joinPoint, signature);
-            var args = joinPoint.getArgs();
-            var parameterAnnotations = targetMethod.getParameterAnnotations();
-            var violations = new HashSet<ConstraintViolation>();
-            for (int i = 0; i < parameterAnnotations.length; i++) {
-                if (requiredValidation(parameterAnnotations[i])) {
-                    violations.addAll(validator.validate(args[i]));
+            ValidatedMethod validatedMethod = validatedMethod(joinPoint.getTarget().getClass(), signature.getMethod());
+            long start = System.nanoTime();
+            Object[] args = joinPoint.getArgs();
+            Set<ConstraintViolation> violations = null;
+            for (int index : validatedMethod.parameterIndexes()) {
+                Set<ConstraintViolation> argViolations = validator.validate(args[index]);
+                if (!argViolations.isEmpty()) {
+                    if (violations == null) {
+                        violations = new LinkedHashSet<>();
+                    }
+                    violations.addAll(argViolations);
                 }
             }
-            if (!violations.isEmpty()) {
+            validatedMethod.timer().record(System.nanoTime() - start, violations != null);
+            if (violations != null) {
                 LOGGER.error("Validation failed: {}", violations);
-                throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), violations.stream().findFirst().get().message()));
+                throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                        violations.stream().map(ConstraintViolation::message).collect(Collectors.joining("; "))));
             }
         }
     }
 
-    private Method getTargetMethod(JoinPoint joinPoint, MethodSignature signature) throws NoSuchMethodException {
-        Method method = signature.getMethod();
-        return joinPoint.getTarget().getClass().getMethod(method.getName(), method.getParameterTypes());
+    private ValidatedMethod validatedMethod(Class<?> targetClass, Method method) throws NoSuchMethodException {
+        ConcurrentMap<Method, ValidatedMethod> methods = validatedMethods.get(targetClass);
+        ValidatedMethod validatedMethod = methods.get(method);
+        if (validatedMethod == null) {
+            Method targetMethod = targetClass.getMethod(method.getName(), method.getParameterTypes());
+            Annotation[][] parameterAnnotations = targetMethod.getParameterAnnotations();
+            int[] parameterIndexes = IntStream.range(0, parameterAnnotations.length)
+                    .filter(i -> requiredValidation(parameterAnnotations[i]))
+                    .toArray();
+            String name = targetClass.getSimpleName() + "." + method.getName() + Arrays.stream(method.getParameterTypes())
+                    .map(Class::getSimpleName)
+                    .collect(Collectors.joining(", ", "(", ")"));
+            LOGGER.debug("Validating parameters {} of {}", parameterIndexes, name);
+            validatedMethod = methods.computeIfAbsent(method, key -> new ValidatedMethod(parameterIndexes, validationMetrics.timer(name)));
+        }
+        return validatedMethod;
     }
 
     private boolean requiredValidation(Annotation[] annotations) {
         return Stream.of(annotations).anyMatch(Valid.class::isInstance);
     }
+
+    private record ValidatedMethod(int[] parameterIndexes, ValidationMetrics.Timer timer) {
+    }
 }
@@ -3,6 +3,7 @@ package com.mjc.school.auth;
 import com.mjc.school.dto.AuthenticationRequest;
 import com.mjc.school.dto.AuthenticationResponse;
 import com.mjc.school.dto.RegisterRequest;
+import com.mjc.school.event.UserSavedEvent;
 import com.mjc.school.exception.NotFoundException;
 import com.mjc.school.model.Author;
 import com.mjc.school.model.Role;
@@ -13,6 +14,7 @@ import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -29,14 +31,17 @@ public class AuthenticationService {
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
     private final AuthorRepository authorRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService, AuthenticationManager authenticationManager, AuthorRepository authorRepository) {
+    public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService, AuthenticationManager authenticationManager, AuthorRepository authorRepository,
+                                 ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
         this.authenticationManager = authenticationManager;
         this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -51,6 +56,7 @@ public class AuthenticationService {
                 Role.USER);
         LOGGER.info("Creating user with username {}", user.getUsername());
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserSavedEvent(user.getUsername()));
 
         var author = new Author();
         author.setName(request.getUsername());
@@ -1,5 +1,6 @@
 package com.mjc.school.auth;
 
+import com.mjc.school.event.UserSavedEvent;
 import com.mjc.school.model.Author;
 import com.mjc.school.model.Role;
 import com.mjc.school.model.User;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -36,12 +38,15 @@ public class Oauth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
     private final UserRepository userRepository;
     private final AuthorRepository authorRepository;
     private final JwtService jwtService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public Oauth2LoginSuccessHandler(UserRepository userRepository, JwtService jwtService, AuthorRepository authorRepository) {
+    public Oauth2LoginSuccessHandler(UserRepository userRepository, JwtService jwtService, AuthorRepository authorRepository,
+                                     ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.jwtService = jwtService;
         this.authorRepository = authorRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -57,6 +62,7 @@ public class Oauth2LoginSuccessHandler extends SimpleUrlAuthenticationSuccessHan
             User newUser = new User(null, firstName, lastName, email, EMPTY, Role.USER);
             LOGGER.info("Creating user with username {}", newUser.getUsername());
             User savedUser = userRepository.save(newUser);
+            eventPublisher.publishEvent(new UserSavedEvent(savedUser.getUsername()));
             Author author = new Author(savedUser.getUsername(), LocalDateTime.now(), LocalDateTime.now(), List.of());
             author.setUser(savedUser);
             LOGGER.info("Creating author for user with username {}", savedUser.getUsername());
@@ -1,15 +1,28 @@
 package com.mjc.school.auth;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mjc.school.datasource.CacheRefill;
+import com.mjc.school.dto.PrincipalCacheDtoResponse;
+import com.mjc.school.event.UserSavedEvent;
 import com.mjc.school.exception.NotFoundException;
 import com.mjc.school.model.User;
 import com.mjc.school.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.USER_DOES_NOT_EXIST;
 
@@ -18,24 +31,55 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private static final Logger LOGGER = LoggerFactory.getLogger(UserDetailsServiceImpl.class);
 
     private final UserRepository userRepository;
+    private final Cache<String, Principal> principals;
 
     @Autowired
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                                  @Value("${security.principal-cache.ttl:5m}") Duration ttl) {
         this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        Principal principal = principals.get(username, key -> CacheRefill.run(() -> loadPrincipal(key)));
+        return new org.springframework.security.core.userdetails.User(
+                principal.username(),
+                principal.password(),
+                principal.authorities());
+    }
+
+    public void evict(String username) {
+        LOGGER.debug("Evicting cached user {}", username);
+        principals.invalidate(username);
+    }
+
+    public PrincipalCacheDtoResponse statistics() {
+        CacheStats stats = principals.stats();
+        return new PrincipalCacheDtoResponse(principals.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                stats.hitRate());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserSaved(UserSavedEvent event) {
+        evict(event.username());
+    }
+
+    private Principal loadPrincipal(String username) {
         LOGGER.debug("Loading user {}", username);
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> {
                     LOGGER.error("User {} not found", username);
                     return new NotFoundException(String.format(USER_DOES_NOT_EXIST.getErrorMessage(), username));
                 });
+        return new Principal(user.getUsername(), user.getPassword(), List.copyOf(user.getAuthorities()));
+    }
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getUsername(),
-                user.getPassword(),
-                user.getAuthorities());
+    private record Principal(String username, String password, Collection<? extends GrantedAuthority> authorities) {
     }
 }
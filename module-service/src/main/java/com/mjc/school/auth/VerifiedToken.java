@@ -0,0 +1,10 @@
+package com.mjc.school.auth;
+
+import java.time.Instant;
+
+public record VerifiedToken(String username, Instant expiration) {
+
+    public boolean isExpired(Instant now) {
+        return expiration == null || !expiration.isAfter(now);
+    }
+}
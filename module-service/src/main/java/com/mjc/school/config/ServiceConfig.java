@@ -2,8 +2,10 @@ package com.mjc.school.config;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @Configuration
 @PropertySource("classpath:application-service.properties")
+@EnableScheduling
 public class ServiceConfig {
 }
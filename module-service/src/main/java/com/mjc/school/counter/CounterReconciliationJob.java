@@ -0,0 +1,58 @@
+package com.mjc.school.counter;
+
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.NewsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.LongSupplier;
+
+@Component
+public class CounterReconciliationJob {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CounterReconciliationJob.class);
+
+    private final NewsRepository newsRepository;
+    private final AuthorRepository authorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public CounterReconciliationJob(NewsRepository newsRepository, AuthorRepository authorRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${counters.reconcile.batch-size:1000}") int batchSize) {
+        this.newsRepository = newsRepository;
+        this.authorRepository = authorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${counters.reconcile.cron:0 30 3 * * *}")
+    public void reconcile() {
+        long comments = reconcile(newsRepository::findMaxId, newsRepository::reconcileCommentCounts);
+        long news = reconcile(authorRepository::findMaxId, authorRepository::reconcileNewsCounts);
+        LOGGER.info("Reconciled comment counts of {} news and news counts of {} authors", comments, news);
+    }
+
+    private long reconcile(LongSupplier maxId, RangeReconciler reconciler) {
+        long max = maxId.getAsLong();
+        long corrected = 0;
+        for (long start = 1; start <= max; start += batchSize) {
+            long from = start;
+            long to = start + batchSize - 1;
+            Integer updated = transactionTemplate.execute(status -> reconciler.reconcile(from, to));
+            corrected += updated != null ? updated : 0;
+        }
+        return corrected;
+    }
+
+    @FunctionalInterface
+    private interface RangeReconciler {
+        int reconcile(long fromId, long toId);
+    }
+}
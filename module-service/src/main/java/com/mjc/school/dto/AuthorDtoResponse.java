@@ -1,15 +1,18 @@
 package com.mjc.school.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AuthorDtoResponse extends RepresentationModel<AuthorDtoResponse> {
     private Long id;
     private String name;
     private LocalDateTime createDate;
     private LocalDateTime lastUpdateDate;
+    private Long newsCount;
 
     public AuthorDtoResponse() {
     }
@@ -53,6 +56,14 @@ public class AuthorDtoResponse extends RepresentationModel<AuthorDtoResponse> {
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public Long getNewsCount() {
+        return newsCount;
+    }
+
+    public void setNewsCount(Long newsCount) {
+        this.newsCount = newsCount;
+    }
+
     @Override
     public String toString() {
         return "AuthorDtoResponse{" +
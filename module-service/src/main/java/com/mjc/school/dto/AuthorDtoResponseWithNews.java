@@ -1,5 +1,6 @@
 package com.mjc.school.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.time.LocalDateTime;
@@ -7,11 +8,13 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class AuthorDtoResponseWithNews extends RepresentationModel<AuthorDtoResponse> {
     private Long id;
     private String name;
     private LocalDateTime createDate;
     private LocalDateTime lastUpdateDate;
+    private Long newsCount;
     private List<NewsDtoResponse> newsDtoResponseList = new ArrayList<>();
 
     public AuthorDtoResponseWithNews() {
@@ -57,6 +60,14 @@ public class AuthorDtoResponseWithNews extends RepresentationModel<AuthorDtoResp
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public Long getNewsCount() {
+        return newsCount;
+    }
+
+    public void setNewsCount(Long newsCount) {
+        this.newsCount = newsCount;
+    }
+
     public List<NewsDtoResponse> getNewsDtoResponseList() {
         return newsDtoResponseList;
     }
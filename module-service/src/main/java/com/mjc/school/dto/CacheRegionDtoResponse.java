@@ -0,0 +1,4 @@
+package com.mjc.school.dto;
+
+public record CacheRegionDtoResponse(String region, long hits, long misses, long puts, long size) {
+}
@@ -0,0 +1,9 @@
+package com.mjc.school.dto;
+
+import java.util.List;
+
+public record CursorPageDtoResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor) {
+}
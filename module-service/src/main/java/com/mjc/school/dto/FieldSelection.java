@@ -0,0 +1,68 @@
+package com.mjc.school.dto;
+
+import com.mjc.school.exception.ValidationException;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+public final class FieldSelection {
+    public static final FieldSelection ALL = new FieldSelection(null);
+    private static final String ID = "id";
+
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add(ID);
+        Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(selected::add);
+        return new FieldSelection(selected);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    public void requireSupported(Collection<String> supported) {
+        if (fields == null) {
+            return;
+        }
+        List<String> unknown = fields.stream().filter(field -> !supported.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                    "unknown fields " + unknown + ", supported fields are " + supported.stream().sorted().toList()));
+        }
+    }
+
+    public Set<String> paths(Map<String, List<String>> pathsByField) {
+        requireSupported(pathsByField.keySet());
+        return fields.stream()
+                .flatMap(field -> pathsByField.get(field).stream())
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    public String toString() {
+        return fields == null ? "*" : String.join(",", fields);
+    }
+}
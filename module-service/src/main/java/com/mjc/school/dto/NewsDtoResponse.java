@@ -1,17 +1,21 @@
 package com.mjc.school.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class NewsDtoResponse extends RepresentationModel<NewsDtoResponse> {
     private Long id;
     private String title;
     private String content;
+    private String excerpt;
     private LocalDateTime createDate;
     private LocalDateTime lastUpdateDate;
+    private Long commentCount;
     private AuthorDtoResponse authorDtoResponse;
     private List<TagDtoResponse> tagDtoResponseList;
 
@@ -52,6 +56,14 @@ public class NewsDtoResponse extends RepresentationModel<NewsDtoResponse> {
         this.content = content;
     }
 
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
     public LocalDateTime getCreateDate() {
         return createDate;
     }
@@ -68,6 +80,14 @@ public class NewsDtoResponse extends RepresentationModel<NewsDtoResponse> {
         this.lastUpdateDate = lastUpdateDate;
     }
 
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
     public AuthorDtoResponse getAuthorDtoResponse() {
         return authorDtoResponse;
     }
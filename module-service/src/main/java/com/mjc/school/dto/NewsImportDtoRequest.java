@@ -0,0 +1,63 @@
+package com.mjc.school.dto;
+
+import com.mjc.school.annotation.NotNull;
+import com.mjc.school.annotation.StringField;
+
+import java.util.List;
+
+public final class NewsImportDtoRequest {
+    @StringField(min = 5, max = 30)
+    @NotNull
+    private String title;
+
+    @StringField(min = 5, max = 225)
+    @NotNull
+    private String content;
+
+    @NotNull
+    private String authorName;
+
+    private List<String> tagNames;
+
+    public NewsImportDtoRequest() {
+    }
+
+    public NewsImportDtoRequest(String title, String content, String authorName, List<String> tagNames) {
+        this.title = title;
+        this.content = content;
+        this.authorName = authorName;
+        this.tagNames = tagNames;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+
+    public void setTagNames(List<String> tagNames) {
+        this.tagNames = tagNames;
+    }
+}
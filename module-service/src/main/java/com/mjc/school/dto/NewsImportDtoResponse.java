@@ -0,0 +1,15 @@
+package com.mjc.school.dto;
+
+public record NewsImportDtoResponse(long line, Status status, Long id, String error) {
+    public static NewsImportDtoResponse created(long line, Long id) {
+        return new NewsImportDtoResponse(line, Status.CREATED, id, null);
+    }
+
+    public static NewsImportDtoResponse failed(long line, String error) {
+        return new NewsImportDtoResponse(line, Status.FAILED, null, error);
+    }
+
+    public enum Status {
+        CREATED, FAILED
+    }
+}
@@ -1,5 +1,7 @@
 package com.mjc.school.dto;
 
+import com.mjc.school.model.SearchParameters;
+
 import java.util.List;
 
 public record ParametersDtoRequest(
@@ -8,4 +10,13 @@ public record ParametersDtoRequest(
         String authorName,
         List<Integer> tagIds,
         List<String> tagNames) {
+
+    public SearchParameters toSearchParameters() {
+        return new SearchParameters(
+                newsTitle != null && !newsTitle.isEmpty() ? newsTitle : null,
+                newsContent != null && !newsContent.isEmpty() ? newsContent : null,
+                authorName != null && !authorName.isEmpty() ? authorName : null,
+                tagIds != null && !tagIds.isEmpty() ? tagIds : null,
+                tagNames != null && !tagNames.isEmpty() ? tagNames : null);
+    }
 }
@@ -0,0 +1,4 @@
+package com.mjc.school.dto;
+
+public record PrincipalCacheDtoResponse(long entries, long hits, long misses, long evictions, double hitRate) {
+}
@@ -0,0 +1,4 @@
+package com.mjc.school.dto;
+
+public record SearchCacheDtoResponse(long entries, long hits, long misses, long evictions, double hitRate, long generation) {
+}
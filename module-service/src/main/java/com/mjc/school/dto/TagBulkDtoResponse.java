@@ -0,0 +1,4 @@
+package com.mjc.school.dto;
+
+public record TagBulkDtoResponse(Long tagId, int affectedNews) {
+}
@@ -1,9 +1,11 @@
 package com.mjc.school.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import org.springframework.hateoas.RepresentationModel;
 
 import java.util.Objects;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TagDtoResponse extends RepresentationModel<TagDtoResponse> {
     private Long id;
     private String name;
@@ -0,0 +1,6 @@
+package com.mjc.school.dto;
+
+import java.util.List;
+
+public record TagIndexDtoResponse(boolean consistent, int tags, long news, List<Long> mismatchedTagIds) {
+}
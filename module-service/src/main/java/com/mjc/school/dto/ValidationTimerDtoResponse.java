@@ -0,0 +1,4 @@
+package com.mjc.school.dto;
+
+public record ValidationTimerDtoResponse(String method, long invocations, long failures, long averageNanos, long maxNanos) {
+}
@@ -0,0 +1,6 @@
+package com.mjc.school.event;
+
+import java.util.List;
+
+public record NewsSavedEvent(Long id, String title, String content, List<Long> tagIds) {
+}
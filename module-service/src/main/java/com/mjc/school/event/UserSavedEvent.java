@@ -0,0 +1,4 @@
+package com.mjc.school.event;
+
+public record UserSavedEvent(String username) {
+}
@@ -11,7 +11,11 @@ public enum ExceptionErrorCodes {
     USER_DOES_NOT_EXIST("000008", "User with username %s does not exist"),
     METHOD_ARGUMENT_TYPE_MISMATCH_EXCEPTION("000009", "Id url path should be a number: %s"),
     ENTITY_ALREADY_EXISTS("000010", "Entity with such field value already exists. Value should be unique: %s"),
-    AUTHENTICATION_FAILED("000011", "Authentication failed: %s");
+    AUTHENTICATION_FAILED("000011", "Authentication failed: %s"),
+    TAGS_DO_NOT_EXIST("000012", "Tags with ids %s do not exist"),
+    PRECONDITION_FAILED("000013", "Resource with id %d has been modified since it was read"),
+    CONCURRENT_MODIFICATION("000014", "Resource has been modified by another request, reload it and retry"),
+    IMPORT_FAILED("000015", "Line could not be imported, retry it later");
 
     private final String errorCode;
     private final String errorMessage;
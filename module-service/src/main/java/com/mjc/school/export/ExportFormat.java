@@ -0,0 +1,35 @@
+package com.mjc.school.export;
+
+import com.mjc.school.exception.ValidationException;
+
+import java.util.Arrays;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+public enum ExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String mediaType;
+    private final String extension;
+
+    ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat of(String value) {
+        return Arrays.stream(values())
+                .filter(format -> format.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "Unsupported export format " + value)));
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,20 @@
+package com.mjc.school.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+public interface ExportWriter {
+    void write(Object... values) throws IOException;
+
+    void flush() throws IOException;
+
+    static ExportWriter create(ExportFormat format, List<String> columns, OutputStream output, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonExportWriter(columns, output, objectMapper);
+            case CSV -> new CsvExportWriter(columns, output);
+        };
+    }
+}
@@ -3,11 +3,15 @@ package com.mjc.school.mapper;
 import com.mjc.school.dto.AuthorDtoRequest;
 import com.mjc.school.dto.AuthorDtoResponse;
 import com.mjc.school.dto.AuthorDtoResponseWithNews;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.projection.AuthorRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring")
 public interface AuthorDtoMapper {
 
@@ -17,11 +21,19 @@ public interface AuthorDtoMapper {
             @Mapping(source = "news", target = "newsDtoResponseList")})
     AuthorDtoResponseWithNews modelToDtoWithNews(Author model);
 
+    default AuthorDtoResponseWithNews rowToDtoWithNews(AuthorRow row, List<NewsDtoResponse> news) {
+        AuthorDtoResponseWithNews dto = new AuthorDtoResponseWithNews(row.id(), row.name(), row.createDate(), row.lastUpdateDate(), news);
+        dto.setNewsCount(row.newsCount());
+        return dto;
+    }
+
     @Mappings({
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "createDate", ignore = true),
             @Mapping(target = "lastUpdateDate", ignore = true),
-            @Mapping(target = "news", ignore = true)
+            @Mapping(target = "news", ignore = true),
+            @Mapping(target = "newsCount", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     Author dtoToModel(AuthorDtoRequest dtoRequest);
 }
@@ -2,7 +2,9 @@ package com.mjc.school.mapper;
 
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.model.Comment;
+import com.mjc.school.model.projection.CommentRow;
 import com.mjc.school.repository.NewsRepository;
 import org.mapstruct.Context;
 import org.mapstruct.Mapper;
@@ -17,11 +19,16 @@ public interface CommentDtoMapper {
     })
     CommentDtoResponse modelToDto(Comment model, @Context NewsDtoMapper newsDtoMapper);
 
+    default CommentDtoResponse rowToDto(CommentRow row, NewsDtoResponse news) {
+        return new CommentDtoResponse(row.id(), row.content(), news, row.createDate(), row.lastUpdateDate());
+    }
+
     @Mappings({
             @Mapping(target = "id", ignore = true),
             @Mapping(target = "news", expression = "java(newsRepository.getReferenceById(dtoRequest.getNewsId()))"),
             @Mapping(target = "createDate", ignore = true),
             @Mapping(target = "lastUpdateDate", ignore = true),
+            @Mapping(target = "version", ignore = true),
     })
     Comment dtoToModel(CommentDtoRequest dtoRequest, @Context NewsRepository newsRepository);
 }
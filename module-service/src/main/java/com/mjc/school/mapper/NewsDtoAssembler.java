@@ -0,0 +1,165 @@
+package com.mjc.school.mapper;
+
+import com.mjc.school.dto.AuthorDtoResponse;
+import com.mjc.school.dto.FieldSelection;
+import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.TagDtoResponse;
+import com.mjc.school.filter.EntitySpecification;
+import com.mjc.school.model.Author;
+import com.mjc.school.model.News;
+import com.mjc.school.model.projection.NewsRow;
+import com.mjc.school.model.projection.NewsTagRow;
+import com.mjc.school.repository.NewsRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class NewsDtoAssembler {
+    public static final String TITLE = "title";
+    public static final String CONTENT = "content";
+    public static final String EXCERPT = "excerpt";
+    public static final String CREATE_DATE = "createDate";
+    public static final String LAST_UPDATE_DATE = "lastUpdateDate";
+    public static final String COMMENT_COUNT = "commentCount";
+    public static final String AUTHOR = "author";
+    public static final String TAGS = "tags";
+    public static final Map<String, List<String>> FIELD_PATHS = Map.of(
+            "id", List.of("id"),
+            TITLE, List.of(TITLE),
+            CONTENT, List.of(CONTENT),
+            EXCERPT, List.of(EXCERPT),
+            CREATE_DATE, List.of(CREATE_DATE),
+            LAST_UPDATE_DATE, List.of(LAST_UPDATE_DATE),
+            COMMENT_COUNT, List.of(COMMENT_COUNT),
+            AUTHOR, List.of("author.id", "author.name", "author.createDate", "author.lastUpdateDate", "author.newsCount"),
+            TAGS, List.of());
+
+    private final NewsRepository newsRepository;
+    private final NewsDtoMapper newsDtoMapper;
+
+    @Autowired
+    public NewsDtoAssembler(NewsRepository newsRepository, NewsDtoMapper newsDtoMapper) {
+        this.newsRepository = newsRepository;
+        this.newsDtoMapper = newsDtoMapper;
+    }
+
+    public List<NewsDtoResponse> toDtos(List<NewsRow> rows) {
+        return toDtos(rows, FieldSelection.ALL);
+    }
+
+    public List<NewsDtoResponse> toDtos(List<NewsRow> rows, FieldSelection fields) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        if (!fields.includes(TAGS)) {
+            return rows.stream().map(row -> newsDtoMapper.rowToDto(row, null)).toList();
+        }
+        Map<Long, List<TagDtoResponse>> tagsByNewsId = readTags(rows.stream().map(NewsRow::id).toList());
+        return rows.stream()
+                .map(row -> newsDtoMapper.rowToDto(row, tagsByNewsId.getOrDefault(row.id(), new ArrayList<>())))
+                .toList();
+    }
+
+    public NewsDtoResponse toDto(News news, FieldSelection fields) {
+        if (fields.isAll()) {
+            return newsDtoMapper.modelToDto(news);
+        }
+        NewsDtoResponse dto = new NewsDtoResponse();
+        dto.setId(news.getId());
+        if (fields.includes(TITLE)) {
+            dto.setTitle(news.getTitle());
+        }
+        if (fields.includes(CONTENT)) {
+            dto.setContent(news.getContent());
+        }
+        if (fields.includes(EXCERPT)) {
+            dto.setExcerpt(news.getExcerpt());
+        }
+        if (fields.includes(CREATE_DATE)) {
+            dto.setCreateDate(news.getCreateDate());
+        }
+        if (fields.includes(LAST_UPDATE_DATE)) {
+            dto.setLastUpdateDate(news.getLastUpdateDate());
+        }
+        if (fields.includes(COMMENT_COUNT)) {
+            dto.setCommentCount(news.getCommentCount());
+        }
+        if (fields.includes(AUTHOR) && news.getAuthor() != null) {
+            Author author = news.getAuthor();
+            AuthorDtoResponse authorDto = new AuthorDtoResponse(author.getId(), author.getName(), author.getCreateDate(), author.getLastUpdateDate());
+            authorDto.setNewsCount(author.getNewsCount());
+            dto.setAuthorDtoResponse(authorDto);
+        }
+        if (fields.includes(TAGS)) {
+            dto.setTagDtoResponseList(news.getTags().stream().map(tag -> new TagDtoResponse(tag.getId(), tag.getName())).toList());
+        }
+        return dto;
+    }
+
+    public Page<NewsDtoResponse> toDtoPage(Page<NewsRow> page) {
+        return toDtoPage(page, FieldSelection.ALL);
+    }
+
+    public Page<NewsDtoResponse> toDtoPage(Page<NewsRow> page, FieldSelection fields) {
+        return new PageImpl<>(toDtos(page.getContent(), fields), page.getPageable(), page.getTotalElements());
+    }
+
+    public Slice<NewsDtoResponse> toDtoSlice(Slice<NewsRow> slice) {
+        return toDtoSlice(slice, FieldSelection.ALL);
+    }
+
+    public Slice<NewsDtoResponse> toDtoSlice(Slice<NewsRow> slice, FieldSelection fields) {
+        return new SliceImpl<>(toDtos(slice.getContent(), fields), slice.getPageable(), slice.hasNext());
+    }
+
+    public Map<Long, NewsDtoResponse> readByIds(Collection<Long> ids) {
+        return readByIds(ids, FieldSelection.ALL);
+    }
+
+    public Map<Long, NewsDtoResponse> readByIds(Collection<Long> ids, FieldSelection fields) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        List<NewsRow> rows = fields.isAll()
+                ? newsRepository.findRowsByIds(ids)
+                : newsRepository.findRows(EntitySpecification.hasIdIn(ids), Pageable.unpaged(), fields.paths(FIELD_PATHS)).getContent();
+        Map<Long, NewsDtoResponse> newsById = new HashMap<>();
+        for (NewsDtoResponse news : toDtos(rows, fields)) {
+            newsById.put(news.getId(), news);
+        }
+        return newsById;
+    }
+
+    public Map<Long, List<NewsDtoResponse>> readByAuthorIds(Collection<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return Map.of();
+        }
+        List<NewsRow> rows = newsRepository.findRowsByAuthorIds(authorIds);
+        List<NewsDtoResponse> news = toDtos(rows);
+        Map<Long, List<NewsDtoResponse>> newsByAuthorId = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            newsByAuthorId.computeIfAbsent(rows.get(i).authorId(), id -> new ArrayList<>()).add(news.get(i));
+        }
+        return newsByAuthorId;
+    }
+
+    private Map<Long, List<TagDtoResponse>> readTags(List<Long> newsIds) {
+        Map<Long, List<TagDtoResponse>> tagsByNewsId = new LinkedHashMap<>();
+        for (NewsTagRow row : newsRepository.findTagRowsByNewsIds(newsIds)) {
+            tagsByNewsId.computeIfAbsent(row.newsId(), id -> new ArrayList<>()).add(new TagDtoResponse(row.tagId(), row.tagName()));
+        }
+        return tagsByNewsId;
+    }
+}
@@ -1,8 +1,11 @@
 package com.mjc.school.mapper;
 
+import com.mjc.school.dto.AuthorDtoResponse;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.model.News;
+import com.mjc.school.model.projection.NewsRow;
 import com.mjc.school.repository.AuthorRepository;
 import com.mjc.school.repository.TagRepository;
 import org.mapstruct.Context;
@@ -11,6 +14,8 @@ import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @Mapper(componentModel = "spring")
 public interface NewsDtoMapper {
@@ -21,8 +26,10 @@ public interface NewsDtoMapper {
             @Mapping(target = "lastUpdateDate", ignore = true),
             @Mapping(target = "author", expression = "java(authorRepository.getReferenceById(dtoRequest.getAuthorId()))"),
             @Mapping(target = "tags",
-                    expression = "java(dtoRequest.getTagIds() != null ? dtoRequest.getTagIds().stream().map(tagId -> tagRepository.getReferenceById(tagId)).toList() : java.util.Collections.emptyList())"),
-            @Mapping(target = "comments", ignore = true)})
+                    expression = "java(dtoRequest.getTagIds() != null ? dtoRequest.getTagIds().stream().distinct().map(tagId -> tagRepository.getReferenceById(tagId)).toList() : java.util.Collections.emptyList())"),
+            @Mapping(target = "comments", ignore = true),
+            @Mapping(target = "commentCount", ignore = true),
+            @Mapping(target = "version", ignore = true)})
     News dtoToModel(
             NewsDtoRequest dtoRequest,
             @Context AuthorRepository authorRepository,
@@ -32,4 +39,16 @@ public interface NewsDtoMapper {
             @Mapping(source = "author", target = "authorDtoResponse"),
             @Mapping(source = "tags", target = "tagDtoResponseList")})
     NewsDtoResponse modelToDto(News news);
+
+    default NewsDtoResponse rowToDto(NewsRow row, List<TagDtoResponse> tags) {
+        AuthorDtoResponse author = null;
+        if (row.authorId() != null) {
+            author = new AuthorDtoResponse(row.authorId(), row.authorName(), row.authorCreateDate(), row.authorLastUpdateDate());
+            author.setNewsCount(row.authorNewsCount());
+        }
+        NewsDtoResponse dto = new NewsDtoResponse(row.id(), row.title(), row.content(), row.createDate(), row.lastUpdateDate(), author, tags);
+        dto.setExcerpt(row.excerpt());
+        dto.setCommentCount(row.commentCount());
+        return dto;
+    }
 }
@@ -3,6 +3,7 @@ package com.mjc.school.mapper;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.model.Tag;
+import com.mjc.school.model.projection.TagRow;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Mappings;
@@ -13,9 +14,14 @@ public interface TagDtoMapper {
 
     TagDtoResponse modelToDto(Tag tag);
 
+    default TagDtoResponse rowToDto(TagRow row) {
+        return new TagDtoResponse(row.id(), row.name());
+    }
+
     @Mappings(value = {
             @Mapping(target = "id", ignore = true),
-            @Mapping(target = "news", ignore = true)
+            @Mapping(target = "news", ignore = true),
+            @Mapping(target = "version", ignore = true)
     })
     Tag dtoToModel(TagDtoRequest dtoRequest);
 }
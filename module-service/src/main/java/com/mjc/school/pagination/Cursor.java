@@ -0,0 +1,49 @@
+package com.mjc.school.pagination;
+
+import com.mjc.school.exception.ValidationException;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+public record Cursor(String property, Sort.Direction direction, String value, Long id) {
+    private static final String SEPARATOR = "\n";
+    private static final int PARTS = 4;
+
+    public static Cursor of(Sort.Order order, Object entity, Long id) {
+        Object value = new BeanWrapperImpl(entity).getPropertyValue(order.getProperty());
+        return new Cursor(order.getProperty(), order.getDirection(), String.valueOf(value), id);
+    }
+
+    public static Cursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, PARTS);
+            if (parts.length != PARTS) {
+                throw invalidCursor(token);
+            }
+            return new Cursor(parts[0], Sort.Direction.valueOf(parts[1]), parts[3], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor(token);
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, property, direction.name(), String.valueOf(id), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public Sort.Order toOrder() {
+        return new Sort.Order(direction, property);
+    }
+
+    private static ValidationException invalidCursor(String token) {
+        return new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "invalid cursor " + token));
+    }
+}
@@ -0,0 +1,61 @@
+package com.mjc.school.pagination;
+
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.exception.ValidationException;
+import com.mjc.school.filter.EntitySpecification;
+import com.mjc.school.model.BaseEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+public final class KeysetPaginator {
+    private static final String ID = "id";
+
+    private KeysetPaginator() {
+    }
+
+    public static <T extends BaseEntity<Long>, R> CursorPageDtoResponse<R> scroll(
+            JpaSpecificationExecutor<T> executor,
+            Specification<T> specification,
+            String after,
+            Pageable pageable,
+            Set<String> seekProperties,
+            Function<T, R> mapper,
+            String... fetchedAttributes) {
+        Cursor cursor = Cursor.decode(after);
+        Sort.Order order = cursor != null ? cursor.toOrder() : primaryOrder(pageable.getSort());
+        if (!ID.equals(order.getProperty()) && !seekProperties.contains(order.getProperty())) {
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                    "cannot page by " + order.getProperty() + ", expected one of " + seekProperties));
+        }
+        Specification<T> spec = cursor == null
+                ? specification
+                : specification.and(EntitySpecification.seekAfter(cursor.property(), cursor.direction(), cursor.value(), cursor.id()));
+        Sort sort = ID.equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), ID));
+        int size = pageable.getPageSize();
+
+        List<T> rows = executor.findBy(spec, query -> query.project(fetchedAttributes).sortBy(sort).limit(size + 1).all());
+
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = Cursor.of(order, last, last.getId()).encode();
+        }
+        return new CursorPageDtoResponse<>(content.stream().map(mapper).toList(), size, nextCursor);
+    }
+
+    private static Sort.Order primaryOrder(Sort sort) {
+        return sort.stream().findFirst().orElse(Sort.Order.asc(ID));
+    }
+}
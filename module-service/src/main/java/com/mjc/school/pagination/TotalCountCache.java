@@ -0,0 +1,38 @@
+package com.mjc.school.pagination;
+
+import com.mjc.school.datasource.CacheRefill;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+@Component
+public class TotalCountCache {
+    private final long ttlNanos;
+    private final Map<Class<?>, CachedTotal> totals = new ConcurrentHashMap<>();
+
+    public TotalCountCache(@Value("${pagination.total-count.ttl:30s}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public long get(Class<?> type, LongSupplier counter) {
+        long now = System.nanoTime();
+        CachedTotal cached = totals.get(type);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) {
+            return cached.total();
+        }
+        long total = CacheRefill.run(counter::getAsLong);
+        totals.put(type, new CachedTotal(total, now));
+        return total;
+    }
+
+    public void evict(Class<?> type) {
+        totals.remove(type);
+    }
+
+    private record CachedTotal(long total, long loadedAt) {
+    }
+}
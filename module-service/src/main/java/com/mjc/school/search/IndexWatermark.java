@@ -0,0 +1,4 @@
+package com.mjc.school.search;
+
+public record IndexWatermark(long count, long lastUpdate) {
+}
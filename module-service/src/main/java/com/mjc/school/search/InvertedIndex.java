@@ -0,0 +1,226 @@
+package com.mjc.school.search;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+public class InvertedIndex {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final char MAX_CHAR = Character.MAX_VALUE;
+
+    private final TreeMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+    private long[] ids = new long[16];
+    private int[] lengths = new int[16];
+    private int size;
+    private int liveCount;
+    private long totalLength;
+
+    public void add(long id, String text) {
+        remove(id);
+        List<String> tokens = Tokenizer.tokenize(text);
+        int doc = allocate(id, tokens.size());
+
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+            terms.computeIfAbsent(entry.getKey(), term -> new Postings()).add(doc, entry.getValue());
+        }
+    }
+
+    public void remove(long id) {
+        Integer doc = ordinals.remove(id);
+        if (doc == null) {
+            return;
+        }
+        deleted.set(doc);
+        liveCount--;
+        totalLength -= lengths[doc];
+        if (deleted.cardinality() > liveCount) {
+            compact();
+        }
+    }
+
+    public boolean contains(long id) {
+        return ordinals.containsKey(id);
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public long[] search(String query) {
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(Tokenizer.tokenize(query)));
+        if (queryTokens.isEmpty() || liveCount == 0) {
+            return new long[0];
+        }
+
+        float averageLength = Math.max(1f, (float) totalLength / liveCount);
+        float[] scores = new float[size];
+        int[] matched = new int[size];
+        int[] lastMatchedToken = new int[size];
+
+        for (int t = 0; t < queryTokens.size(); t++) {
+            String token = queryTokens.get(t);
+            NavigableMap<String, Postings> range = terms.subMap(token, true, token + MAX_CHAR, false);
+            for (Postings postings : range.values()) {
+                double idf = Math.log(1 + (liveCount - postings.size() + 0.5) / (postings.size() + 0.5));
+                for (int i = 0; i < postings.size(); i++) {
+                    int doc = postings.doc(i);
+                    if (deleted.get(doc)) {
+                        continue;
+                    }
+                    int freq = postings.freq(i);
+                    float norm = K1 * (1 - B + B * lengths[doc] / averageLength);
+                    scores[doc] += (float) (idf * freq * (K1 + 1) / (freq + norm));
+                    if (lastMatchedToken[doc] != t + 1) {
+                        lastMatchedToken[doc] = t + 1;
+                        matched[doc]++;
+                    }
+                }
+            }
+        }
+
+        int hits = 0;
+        int[] docs = new int[size];
+        for (int doc = 0; doc < size; doc++) {
+            if (matched[doc] == queryTokens.size()) {
+                docs[hits++] = doc;
+            }
+        }
+
+        Integer[] ranked = new Integer[hits];
+        for (int i = 0; i < hits; i++) {
+            ranked[i] = docs[i];
+        }
+        Arrays.sort(ranked, (a, b) -> {
+            int byScore = Float.compare(scores[b], scores[a]);
+            return byScore != 0 ? byScore : Long.compare(ids[b], ids[a]);
+        });
+
+        long[] result = new long[hits];
+        for (int i = 0; i < hits; i++) {
+            result[i] = ids[ranked[i]];
+        }
+        return result;
+    }
+
+    public void writeTo(DataOutputStream out) throws IOException {
+        compact();
+        out.writeInt(size);
+        for (int doc = 0; doc < size; doc++) {
+            out.writeLong(ids[doc]);
+        }
+        for (int doc = 0; doc < size; doc++) {
+            out.writeInt(lengths[doc]);
+        }
+        out.writeInt(terms.size());
+        for (Map.Entry<String, Postings> entry : terms.entrySet()) {
+            byte[] term = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            Postings postings = entry.getValue();
+            out.writeInt(term.length);
+            out.write(term);
+            out.writeInt(postings.size());
+            for (int i = 0; i < postings.size(); i++) {
+                out.writeInt(postings.doc(i));
+            }
+            for (int i = 0; i < postings.size(); i++) {
+                out.writeInt(postings.freq(i));
+            }
+        }
+    }
+
+    public static InvertedIndex readFrom(ByteBuffer buffer) {
+        InvertedIndex index = new InvertedIndex();
+        int docCount = buffer.getInt();
+        index.ids = new long[Math.max(16, docCount)];
+        index.lengths = new int[Math.max(16, docCount)];
+        for (int doc = 0; doc < docCount; doc++) {
+            index.ids[doc] = buffer.getLong();
+            index.ordinals.put(index.ids[doc], doc);
+        }
+        for (int doc = 0; doc < docCount; doc++) {
+            index.lengths[doc] = buffer.getInt();
+            index.totalLength += index.lengths[doc];
+        }
+        index.size = docCount;
+        index.liveCount = docCount;
+
+        int termCount = buffer.getInt();
+        for (int t = 0; t < termCount; t++) {
+            byte[] term = new byte[buffer.getInt()];
+            buffer.get(term);
+            int postingsSize = buffer.getInt();
+            int[] docs = new int[Math.max(4, postingsSize)];
+            int[] freqs = new int[Math.max(4, postingsSize)];
+            buffer.asIntBuffer().get(docs, 0, postingsSize);
+            buffer.position(buffer.position() + postingsSize * Integer.BYTES);
+            buffer.asIntBuffer().get(freqs, 0, postingsSize);
+            buffer.position(buffer.position() + postingsSize * Integer.BYTES);
+            index.terms.put(new String(term, StandardCharsets.UTF_8), new Postings(docs, freqs, postingsSize));
+        }
+        return index;
+    }
+
+    private int allocate(long id, int length) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+        }
+        int doc = size++;
+        ids[doc] = id;
+        lengths[doc] = length;
+        ordinals.put(id, doc);
+        liveCount++;
+        totalLength += length;
+        return doc;
+    }
+
+    private void compact() {
+        if (deleted.isEmpty()) {
+            return;
+        }
+        int[] remap = new int[size];
+        int next = 0;
+        for (int doc = 0; doc < size; doc++) {
+            if (deleted.get(doc)) {
+                remap[doc] = -1;
+            } else {
+                remap[doc] = next;
+                ids[next] = ids[doc];
+                lengths[next] = lengths[doc];
+                ordinals.put(ids[next], next);
+                next++;
+            }
+        }
+        size = next;
+        deleted.clear();
+
+        terms.entrySet().removeIf(entry -> {
+            Postings postings = entry.getValue();
+            Postings compacted = new Postings();
+            for (int i = 0; i < postings.size(); i++) {
+                int doc = remap[postings.doc(i)];
+                if (doc >= 0) {
+                    compacted.add(doc, postings.freq(i));
+                }
+            }
+            entry.setValue(compacted);
+            return compacted.size() == 0;
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.mjc.school.search;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public sealed interface NewsQuery {
+
+    record Text(String value) implements NewsQuery {
+    }
+
+    record Phrase(String value) implements NewsQuery {
+    }
+
+    record Tag(String name) implements NewsQuery {
+    }
+
+    record Author(String name) implements NewsQuery {
+    }
+
+    record Created(LocalDate from, LocalDate to) implements NewsQuery {
+    }
+
+    record Not(NewsQuery operand) implements NewsQuery {
+    }
+
+    record And(List<NewsQuery> operands) implements NewsQuery {
+        public And {
+            operands = List.copyOf(operands);
+        }
+    }
+
+    record Or(List<NewsQuery> operands) implements NewsQuery {
+        public Or {
+            operands = List.copyOf(operands);
+        }
+    }
+}
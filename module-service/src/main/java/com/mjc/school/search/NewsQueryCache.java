@@ -0,0 +1,35 @@
+package com.mjc.school.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mjc.school.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class NewsQueryCache {
+    private final Cache<String, NewsSearchQuery> cache;
+
+    @Autowired
+    public NewsQueryCache(@Value("${news.search.query-cache.max-size:1000}") long maxSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public NewsSearchQuery parse(String search) {
+        if (search == null || search.isBlank()) {
+            return NewsSearchQuery.EMPTY;
+        }
+        return cache.get(search.strip(), NewsQueryCache::compile);
+    }
+
+    private static NewsSearchQuery compile(String search) {
+        try {
+            return NewsSearchQuery.of(NewsQueryParser.parse(search));
+        } catch (ValidationException e) {
+            return NewsSearchQuery.of(NewsQueryParser.parseLiteral(search));
+        }
+    }
+}
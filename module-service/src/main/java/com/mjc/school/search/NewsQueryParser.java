@@ -0,0 +1,277 @@
+package com.mjc.school.search;
+
+import com.mjc.school.exception.ValidationException;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+public final class NewsQueryParser {
+    private static final int MAX_DEPTH = 32;
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String AUTHOR = "author";
+    private static final String TAG = "tag";
+    private static final String CREATED = "created";
+    private static final String RANGE = "..";
+    private static final Pattern LEGACY_TAG = Pattern.compile("#\\((.*?)\\)");
+    private static final String WHITESPACE = "\\s+";
+
+    private final String input;
+    private int position;
+    private int depth;
+
+    private NewsQueryParser(String input) {
+        this.input = input;
+    }
+
+    public static NewsQuery parse(String input) {
+        if (input == null || input.isBlank()) {
+            return null;
+        }
+        NewsQueryParser parser = new NewsQueryParser(input);
+        NewsQuery query = parser.parseOr();
+        parser.skipWhitespace();
+        if (!parser.atEnd()) {
+            throw parser.error("unexpected '" + input.charAt(parser.position) + "'");
+        }
+        return query;
+    }
+
+    public static NewsQuery parseLiteral(String input) {
+        if (input == null || input.isBlank()) {
+            return null;
+        }
+        List<NewsQuery> operands = new ArrayList<>();
+        Matcher matcher = LEGACY_TAG.matcher(input);
+        String text = matcher.replaceAll(" ").strip();
+        if (!text.isEmpty()) {
+            for (String word : text.split(WHITESPACE)) {
+                operands.add(new NewsQuery.Text(word.toLowerCase()));
+            }
+        }
+        matcher.reset();
+        while (matcher.find()) {
+            String name = matcher.group(1).trim();
+            if (!name.isEmpty()) {
+                operands.add(new NewsQuery.Tag(name));
+            }
+        }
+        if (operands.isEmpty()) {
+            return null;
+        }
+        return operands.size() == 1 ? operands.get(0) : new NewsQuery.And(operands);
+    }
+
+    private NewsQuery parseOr() {
+        List<NewsQuery> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (acceptKeyword(OR)) {
+            operands.add(parseAnd());
+        }
+        return operands.size() == 1 ? operands.get(0) : new NewsQuery.Or(flatten(operands, NewsQuery.Or.class));
+    }
+
+    private NewsQuery parseAnd() {
+        List<NewsQuery> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (true) {
+            if (acceptKeyword(AND)) {
+                operands.add(parseUnary());
+            } else if (startsOperand()) {
+                operands.add(parseUnary());
+            } else {
+                break;
+            }
+        }
+        return operands.size() == 1 ? operands.get(0) : new NewsQuery.And(flatten(operands, NewsQuery.And.class));
+    }
+
+    private NewsQuery parseUnary() {
+        skipWhitespace();
+        if (acceptKeyword(NOT) || accept('-')) {
+            return new NewsQuery.Not(nested(this::parseUnary));
+        }
+        if (accept('(')) {
+            NewsQuery query = nested(this::parseOr);
+            skipWhitespace();
+            if (!accept(')')) {
+                throw error("missing ')'");
+            }
+            return query;
+        }
+        return parseTerm();
+    }
+
+    private NewsQuery parseTerm() {
+        if (atEnd() || peek() == ')') {
+            throw error("expected a search term");
+        }
+        if (input.startsWith("#(", position)) {
+            int close = input.indexOf(')', position);
+            if (close < 0) {
+                throw error("missing ')' after tag");
+            }
+            String name = input.substring(position + 2, close).trim();
+            position = close + 1;
+            return tag(name);
+        }
+        if (peek() == '"') {
+            return new NewsQuery.Phrase(phrase().toLowerCase());
+        }
+        String word = word();
+        int colon = word.indexOf(':');
+        if (colon > 0) {
+            String field = word.substring(0, colon);
+            if (AUTHOR.equals(field) || TAG.equals(field) || CREATED.equals(field)) {
+                String value = word.substring(colon + 1);
+                if (value.isEmpty() && !atEnd() && peek() == '"') {
+                    value = phrase();
+                }
+                return fieldTerm(field, value);
+            }
+        }
+        return new NewsQuery.Text(word.toLowerCase());
+    }
+
+    private NewsQuery fieldTerm(String field, String value) {
+        if (value.isBlank()) {
+            throw error("missing value for " + field + ":");
+        }
+        return switch (field) {
+            case AUTHOR -> new NewsQuery.Author(value.toLowerCase());
+            case TAG -> tag(value);
+            default -> created(value);
+        };
+    }
+
+    private NewsQuery tag(String name) {
+        if (name.isEmpty()) {
+            throw error("missing tag name");
+        }
+        return new NewsQuery.Tag(name);
+    }
+
+    private NewsQuery created(String value) {
+        int range = value.indexOf(RANGE);
+        if (range < 0) {
+            LocalDate day = date(value);
+            return new NewsQuery.Created(day, day);
+        }
+        String from = value.substring(0, range);
+        String to = value.substring(range + RANGE.length());
+        if (from.isEmpty() && to.isEmpty()) {
+            throw error("empty date range");
+        }
+        return new NewsQuery.Created(from.isEmpty() ? null : date(from), to.isEmpty() ? null : date(to));
+    }
+
+    private LocalDate date(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw error("invalid date '" + value + "'");
+        }
+    }
+
+    private String phrase() {
+        int close = input.indexOf('"', position + 1);
+        if (close < 0) {
+            throw error("unterminated phrase");
+        }
+        String phrase = input.substring(position + 1, close).trim();
+        position = close + 1;
+        if (phrase.isEmpty()) {
+            throw error("empty phrase");
+        }
+        return phrase;
+    }
+
+    private String word() {
+        int start = position;
+        while (!atEnd() && !isDelimiter(peek())) {
+            position++;
+        }
+        return input.substring(start, position);
+    }
+
+    private boolean startsOperand() {
+        skipWhitespace();
+        return !atEnd() && peek() != ')' && !atKeyword(OR);
+    }
+
+    private boolean acceptKeyword(String keyword) {
+        skipWhitespace();
+        if (atKeyword(keyword)) {
+            position += keyword.length();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean atKeyword(String keyword) {
+        int end = position + keyword.length();
+        return input.startsWith(keyword, position) && (end == input.length() || isDelimiter(input.charAt(end)));
+    }
+
+    private boolean accept(char c) {
+        if (!atEnd() && peek() == c && (c != '-' || position + 1 < input.length() && !isDelimiter(input.charAt(position + 1)))) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private NewsQuery nested(Supplier<NewsQuery> parser) {
+        if (++depth > MAX_DEPTH) {
+            throw error("query is nested too deeply");
+        }
+        NewsQuery query = parser.get();
+        depth--;
+        return query;
+    }
+
+    private List<NewsQuery> flatten(List<NewsQuery> operands, Class<? extends NewsQuery> type) {
+        List<NewsQuery> flat = new ArrayList<>();
+        for (NewsQuery operand : operands) {
+            if (operand instanceof NewsQuery.And and && type == NewsQuery.And.class) {
+                flat.addAll(and.operands());
+            } else if (operand instanceof NewsQuery.Or or && type == NewsQuery.Or.class) {
+                flat.addAll(or.operands());
+            } else {
+                flat.add(operand);
+            }
+        }
+        return flat;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')' || c == '"';
+    }
+
+    private void skipWhitespace() {
+        while (!atEnd() && Character.isWhitespace(peek())) {
+            position++;
+        }
+    }
+
+    private boolean atEnd() {
+        return position >= input.length();
+    }
+
+    private char peek() {
+        return input.charAt(position);
+    }
+
+    private ValidationException error(String reason) {
+        return new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(),
+                "search query " + reason + " at position " + position));
+    }
+}
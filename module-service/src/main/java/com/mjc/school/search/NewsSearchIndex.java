@@ -0,0 +1,194 @@
+package com.mjc.school.search;
+
+import com.mjc.school.datasource.CacheRefill;
+import com.mjc.school.event.NewsDeletedEvent;
+import com.mjc.school.event.NewsSavedEvent;
+import com.mjc.school.model.NewsText;
+import com.mjc.school.repository.NewsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.ZoneOffset;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class NewsSearchIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NewsSearchIndex.class);
+    private static final int MAGIC = 0x4E535831;
+    private static final int BATCH_SIZE = 500;
+    private static final String SEGMENT_FILE = "news.seg";
+
+    private final NewsRepository newsRepository;
+    private final boolean enabled;
+    private final Path directory;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile InvertedIndex index;
+
+    @Autowired
+    public NewsSearchIndex(NewsRepository newsRepository,
+                           @Value("${news.search.index.enabled:false}") boolean enabled,
+                           @Value("${news.search.index.directory:${java.io.tmpdir}/news-index}") String directory) {
+        this.newsRepository = newsRepository;
+        this.enabled = enabled;
+        this.directory = Path.of(directory);
+    }
+
+    public boolean isReady() {
+        return enabled && index != null;
+    }
+
+    public long[] search(String text) {
+        lock.readLock().lock();
+        try {
+            return index.search(text);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        IndexWatermark watermark = currentWatermark();
+        InvertedIndex loaded = readSegment(watermark);
+        if (loaded == null) {
+            loaded = CacheRefill.run(this::rebuild);
+            LOGGER.info("Rebuilt news search index with {} documents", loaded.size());
+        } else {
+            LOGGER.info("Loaded news search index with {} documents from {}", loaded.size(), directory);
+        }
+        index = loaded;
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onSaved(NewsSavedEvent event) {
+        if (!isReady()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.add(event.id(), event.title() + " " + event.content());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onDeleted(NewsDeletedEvent event) {
+        if (!isReady()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            index.remove(event.id());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void persist() {
+        if (!isReady()) {
+            return;
+        }
+        try {
+            writeSegment(currentWatermark());
+        } catch (RuntimeException e) {
+            LOGGER.error("Unable to persist news search index", e);
+        }
+    }
+
+    private InvertedIndex rebuild() {
+        InvertedIndex rebuilt = new InvertedIndex();
+        Pageable pageable = PageRequest.of(0, BATCH_SIZE, Sort.by("id"));
+        Slice<NewsText> slice;
+        do {
+            slice = newsRepository.findAllTexts(pageable);
+            for (NewsText text : slice) {
+                rebuilt.add(text.id(), text.title() + " " + text.content());
+            }
+            pageable = slice.nextPageable();
+        } while (slice.hasNext());
+        index = rebuilt;
+        writeSegment(currentWatermark());
+        return rebuilt;
+    }
+
+    private IndexWatermark currentWatermark() {
+        long lastUpdate = newsRepository.findMaxLastUpdateDate()
+                .map(date -> date.toInstant(ZoneOffset.UTC).toEpochMilli())
+                .orElse(0L);
+        return new IndexWatermark(newsRepository.count(), lastUpdate);
+    }
+
+    private InvertedIndex readSegment(IndexWatermark watermark) {
+        Path file = directory.resolve(SEGMENT_FILE);
+        if (!Files.isReadable(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC) {
+                LOGGER.warn("Ignoring news search segment {} with unknown format", file);
+                return null;
+            }
+            IndexWatermark stored = new IndexWatermark(buffer.getLong(), buffer.getLong());
+            if (!stored.equals(watermark)) {
+                LOGGER.info("News search segment {} is stale: {} vs {}", file, stored, watermark);
+                return null;
+            }
+            return InvertedIndex.readFrom(buffer);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Unable to read news search segment {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeSegment(IndexWatermark watermark) {
+        lock.writeLock().lock();
+        try {
+            Files.createDirectories(directory);
+            Path tmp = Files.createTempFile(directory, SEGMENT_FILE, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeLong(watermark.count());
+                out.writeLong(watermark.lastUpdate());
+                index.writeTo(out);
+            }
+            Files.move(tmp, directory.resolve(SEGMENT_FILE), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to write news search segment to {}", directory, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
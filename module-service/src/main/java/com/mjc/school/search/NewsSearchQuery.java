@@ -0,0 +1,44 @@
+package com.mjc.school.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public record NewsSearchQuery(NewsQuery expression, List<String> words, List<String> phrases, List<String> tags) {
+    public static final NewsSearchQuery EMPTY = new NewsSearchQuery(null, List.of(), List.of(), List.of());
+
+    public static NewsSearchQuery of(NewsQuery expression) {
+        if (expression == null) {
+            return EMPTY;
+        }
+        List<NewsQuery> operands = expression instanceof NewsQuery.And and ? and.operands() : List.of(expression);
+        List<String> words = new ArrayList<>();
+        List<String> phrases = new ArrayList<>();
+        List<String> tags = new ArrayList<>();
+        for (NewsQuery operand : operands) {
+            if (operand instanceof NewsQuery.Text text) {
+                words.add(text.value());
+            } else if (operand instanceof NewsQuery.Phrase phrase) {
+                phrases.add(phrase.value());
+            } else if (operand instanceof NewsQuery.Tag tag) {
+                tags.add(tag.name());
+            } else {
+                return new NewsSearchQuery(expression, null, null, null);
+            }
+        }
+        return new NewsSearchQuery(expression, List.copyOf(words), List.copyOf(phrases),
+                tags.stream().distinct().sorted().collect(Collectors.toList()));
+    }
+
+    public String text() {
+        if (words == null) {
+            return null;
+        }
+        return Stream.concat(words.stream(), phrases.stream()).collect(Collectors.joining(" "));
+    }
+
+    public boolean isSimple() {
+        return words != null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mjc.school.search;
+
+import java.util.Arrays;
+
+final class Postings {
+    private int[] docs;
+    private int[] freqs;
+    private int size;
+
+    Postings() {
+        this(new int[4], new int[4], 0);
+    }
+
+    Postings(int[] docs, int[] freqs, int size) {
+        this.docs = docs;
+        this.freqs = freqs;
+        this.size = size;
+    }
+
+    void add(int doc, int freq) {
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+            freqs = Arrays.copyOf(freqs, size * 2);
+        }
+        docs[size] = doc;
+        freqs[size] = freq;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int doc(int i) {
+        return docs[i];
+    }
+
+    int freq(int i) {
+        return freqs[i];
+    }
+}
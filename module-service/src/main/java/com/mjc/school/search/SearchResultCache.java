@@ -0,0 +1,115 @@
+package com.mjc.school.search;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.mjc.school.datasource.CacheRefill;
+import com.mjc.school.dto.SearchCacheDtoResponse;
+import com.mjc.school.event.AuthorSavedEvent;
+import com.mjc.school.event.NewsDeletedEvent;
+import com.mjc.school.event.NewsSavedEvent;
+import com.mjc.school.event.TagDeletedEvent;
+import com.mjc.school.event.TagLinksChangedEvent;
+import com.mjc.school.event.TagSavedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class SearchResultCache {
+    private final Cache<Key, CachedIds> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public SearchResultCache(@Value("${news.search.result-cache.max-ids:200000}") long maxIds,
+                             @Value("${news.search.result-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((Key key, CachedIds value) -> value.ids().length + 1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public <T> Page<T> get(Object query, Pageable pageable, Function<T, Long> idOf,
+                           Supplier<Page<T>> search, Function<List<Long>, List<T>> loader) {
+        if (pageable.isUnpaged()) {
+            return search.get();
+        }
+        Key key = new Key(generation.get(), query, pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().toString());
+        CachedIds cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return new PageImpl<>(loader.apply(Arrays.stream(cached.ids()).boxed().toList()), pageable, cached.total());
+        }
+        Page<T> page = CacheRefill.run(search);
+        long[] ids = page.getContent().stream().mapToLong(idOf::apply).toArray();
+        cache.put(key, new CachedIds(ids, page.getTotalElements()));
+        return page;
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    public SearchCacheDtoResponse statistics() {
+        CacheStats stats = cache.stats();
+        return new SearchCacheDtoResponse(cache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount(),
+                stats.hitRate(), generation.get());
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onNewsSaved(NewsSavedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onNewsDeleted(NewsDeletedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTagSaved(TagSavedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTagDeleted(TagDeletedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onTagLinksChanged(TagLinksChangedEvent event) {
+        invalidate();
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onAuthorSaved(AuthorSavedEvent event) {
+        invalidate();
+    }
+
+    private record Key(long generation, Object query, int page, int size, String sort) {
+    }
+
+    private record CachedIds(long[] ids, long total) {
+    }
+}
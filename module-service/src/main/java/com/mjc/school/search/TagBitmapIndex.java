@@ -0,0 +1,292 @@
+package com.mjc.school.search;
+
+import com.mjc.school.datasource.CacheRefill;
+import com.mjc.school.dto.TagIndexDtoResponse;
+import com.mjc.school.event.NewsDeletedEvent;
+import com.mjc.school.event.NewsSavedEvent;
+import com.mjc.school.event.TagDeletedEvent;
+import com.mjc.school.event.TagLinksChangedEvent;
+import com.mjc.school.event.TagSavedEvent;
+import com.mjc.school.model.NewsTagPair;
+import com.mjc.school.model.Tag;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class TagBitmapIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(TagBitmapIndex.class);
+
+    private final NewsRepository newsRepository;
+    private final TagRepository tagRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Snapshot snapshot;
+    private volatile boolean ready;
+
+    @Autowired
+    public TagBitmapIndex(NewsRepository newsRepository, TagRepository tagRepository,
+                          @Value("${news.search.tag-index.enabled:false}") boolean enabled) {
+        this.newsRepository = newsRepository;
+        this.tagRepository = tagRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public Roaring64Bitmap query(TagQuery query) {
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap result;
+            if (!query.all().isEmpty()) {
+                result = null;
+                for (String name : query.all()) {
+                    Roaring64Bitmap tagged = snapshot.newsByName(name);
+                    if (tagged == null) {
+                        return new Roaring64Bitmap();
+                    }
+                    if (result == null) {
+                        result = tagged.clone();
+                    } else {
+                        result.and(tagged);
+                    }
+                }
+            } else {
+                result = snapshot.allNews.clone();
+            }
+            if (!query.any().isEmpty()) {
+                result.and(snapshot.union(query.any()));
+            }
+            if (!query.none().isEmpty()) {
+                result.andNot(snapshot.union(query.none()));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        if (!enabled) {
+            return;
+        }
+        rebuild();
+    }
+
+    @Transactional(readOnly = true)
+    public TagIndexDtoResponse rebuild() {
+        Snapshot rebuilt = CacheRefill.run(this::readSnapshot);
+        lock.writeLock().lock();
+        try {
+            snapshot = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        LOGGER.info("Rebuilt tag bitmap index with {} tags and {} news", rebuilt.newsByTag.size(), rebuilt.allNews.getLongCardinality());
+        return new TagIndexDtoResponse(true, rebuilt.newsByTag.size(), rebuilt.allNews.getLongCardinality(), List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public TagIndexDtoResponse verify() {
+        Snapshot expected = readSnapshot();
+        lock.readLock().lock();
+        try {
+            if (snapshot == null) {
+                return new TagIndexDtoResponse(false, 0, 0, new ArrayList<>(expected.newsByTag.keySet()));
+            }
+            Set<Long> tagIds = new HashSet<>(expected.newsByTag.keySet());
+            tagIds.addAll(snapshot.newsByTag.keySet());
+            List<Long> mismatched = tagIds.stream()
+                    .filter(tagId -> !Objects.equals(expected.newsByTag.get(tagId), snapshot.newsByTag.get(tagId))
+                            || !Objects.equals(expected.namesById.get(tagId), snapshot.namesById.get(tagId)))
+                    .sorted()
+                    .toList();
+            boolean consistent = mismatched.isEmpty() && expected.allNews.equals(snapshot.allNews);
+            if (!consistent) {
+                LOGGER.warn("Tag bitmap index is inconsistent with the database for tags {}", mismatched);
+            }
+            return new TagIndexDtoResponse(consistent, snapshot.newsByTag.size(), snapshot.allNews.getLongCardinality(), mismatched);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onNewsSaved(NewsSavedEvent event) {
+        update(() -> {
+            snapshot.removeNews(event.id());
+            snapshot.allNews.addLong(event.id());
+            for (Long tagId : event.tagIds()) {
+                snapshot.link(event.id(), tagId);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onNewsDeleted(NewsDeletedEvent event) {
+        update(() -> {
+            snapshot.removeNews(event.id());
+            snapshot.allNews.removeLong(event.id());
+        });
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTagSaved(TagSavedEvent event) {
+        update(() -> {
+            String previous = snapshot.namesById.put(event.id(), event.name());
+            if (previous != null) {
+                snapshot.idsByName.remove(previous);
+            }
+            snapshot.idsByName.put(event.name(), event.id());
+            snapshot.newsByTag.computeIfAbsent(event.id(), id -> new Roaring64Bitmap());
+        });
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTagDeleted(TagDeletedEvent event) {
+        update(() -> {
+            String name = snapshot.namesById.remove(event.id());
+            if (name != null) {
+                snapshot.idsByName.remove(name);
+            }
+            Roaring64Bitmap tagged = snapshot.newsByTag.remove(event.id());
+            if (tagged != null) {
+                for (long newsId : tagged.toArray()) {
+                    snapshot.unlinkTag(newsId, event.id());
+                }
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onTagLinksChanged(TagLinksChangedEvent event) {
+        if (!isReady()) {
+            return;
+        }
+        Roaring64Bitmap tagged = new Roaring64Bitmap();
+        CacheRefill.run(() -> newsRepository.findIdsByTagId(event.tagId())).forEach(tagged::addLong);
+        tagged.runOptimize();
+        update(() -> {
+            Roaring64Bitmap previous = snapshot.newsByTag.put(event.tagId(), tagged);
+            if (previous != null) {
+                previous.andNot(tagged);
+                for (long newsId : previous.toArray()) {
+                    snapshot.unlinkTag(newsId, event.tagId());
+                }
+            }
+            for (long newsId : tagged.toArray()) {
+                snapshot.tagsByNews.computeIfAbsent(newsId, id -> new HashSet<>()).add(event.tagId());
+            }
+        });
+    }
+
+    private void update(Runnable change) {
+        if (!isReady()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Snapshot readSnapshot() {
+        Snapshot fresh = new Snapshot();
+        for (Tag tag : tagRepository.findAll()) {
+            fresh.namesById.put(tag.getId(), tag.getName());
+            fresh.idsByName.put(tag.getName(), tag.getId());
+            fresh.newsByTag.put(tag.getId(), new Roaring64Bitmap());
+        }
+        for (Long newsId : newsRepository.findAllIds()) {
+            fresh.allNews.addLong(newsId);
+        }
+        for (NewsTagPair pair : newsRepository.findAllNewsTagPairs()) {
+            fresh.link(pair.newsId(), pair.tagId());
+        }
+        fresh.newsByTag.values().forEach(Roaring64Bitmap::runOptimize);
+        fresh.allNews.runOptimize();
+        return fresh;
+    }
+
+    private static final class Snapshot {
+        private final Map<Long, Roaring64Bitmap> newsByTag = new HashMap<>();
+        private final Map<Long, String> namesById = new HashMap<>();
+        private final Map<String, Long> idsByName = new HashMap<>();
+        private final Map<Long, Set<Long>> tagsByNews = new HashMap<>();
+        private final Roaring64Bitmap allNews = new Roaring64Bitmap();
+
+        private Roaring64Bitmap newsByName(String name) {
+            Long tagId = idsByName.get(name);
+            return tagId != null ? newsByTag.get(tagId) : null;
+        }
+
+        private Roaring64Bitmap union(List<String> names) {
+            Roaring64Bitmap union = new Roaring64Bitmap();
+            for (String name : names) {
+                Roaring64Bitmap tagged = newsByName(name);
+                if (tagged != null) {
+                    union.or(tagged);
+                }
+            }
+            return union;
+        }
+
+        private void link(long newsId, long tagId) {
+            newsByTag.computeIfAbsent(tagId, id -> new Roaring64Bitmap()).addLong(newsId);
+            tagsByNews.computeIfAbsent(newsId, id -> new HashSet<>()).add(tagId);
+        }
+
+        private void unlinkTag(long newsId, long tagId) {
+            Set<Long> tagIds = tagsByNews.get(newsId);
+            if (tagIds != null && tagIds.remove(tagId) && tagIds.isEmpty()) {
+                tagsByNews.remove(newsId);
+            }
+        }
+
+        private void removeNews(long newsId) {
+            Set<Long> tagIds = tagsByNews.remove(newsId);
+            if (tagIds == null) {
+                return;
+            }
+            for (Long tagId : tagIds) {
+                Roaring64Bitmap tagged = newsByTag.get(tagId);
+                if (tagged != null) {
+                    tagged.removeLong(newsId);
+                }
+            }
+        }
+    }
+}
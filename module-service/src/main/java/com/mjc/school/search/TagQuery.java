@@ -0,0 +1,16 @@
+package com.mjc.school.search;
+
+import java.util.List;
+
+public record TagQuery(List<String> all, List<String> any, List<String> none) {
+
+    public TagQuery {
+        all = all != null ? all : List.of();
+        any = any != null ? any : List.of();
+        none = none != null ? none : List.of();
+    }
+
+    public static TagQuery allOf(List<String> names) {
+        return new TagQuery(names, null, null);
+    }
+}
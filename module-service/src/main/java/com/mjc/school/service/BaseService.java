@@ -1,19 +1,34 @@
 package com.mjc.school.service;
 
+import com.mjc.school.dto.FieldSelection;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.version.ResourceVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface BaseService<T, R, K> {
     Page<R> readAll(SearchingRequest searchingRequest, Pageable pageable);
 
+    Page<R> readAll(SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields);
+
+    Slice<R> readAllSlice(SearchingRequest searchingRequest, Pageable pageable);
+
+    Slice<R> readAllSlice(SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields);
+
     R readById(K id);
 
+    ResourceVersion readVersion(K id);
+
     R create(T createRequest);
 
     R update(K id, T updateRequest);
 
+    R update(K id, T updateRequest, String ifMatch);
+
     R patch(K id, T patchRequest);
 
+    R patch(K id, T patchRequest, String ifMatch);
+
     void deleteById(K id);
 }
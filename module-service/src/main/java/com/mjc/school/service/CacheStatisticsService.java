@@ -0,0 +1,15 @@
+package com.mjc.school.service;
+
+import com.mjc.school.dto.CacheRegionDtoResponse;
+import com.mjc.school.dto.PrincipalCacheDtoResponse;
+import com.mjc.school.dto.SearchCacheDtoResponse;
+
+import java.util.List;
+
+public interface CacheStatisticsService {
+    List<CacheRegionDtoResponse> readRegions();
+
+    SearchCacheDtoResponse readSearchCache();
+
+    PrincipalCacheDtoResponse readPrincipalCache();
+}
@@ -2,9 +2,12 @@ package com.mjc.school.service;
 
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface CommentService extends BaseService<CommentDtoRequest, CommentDtoResponse, Long> {
     Page<CommentDtoResponse> readByNewsId(Long newsId, Pageable pageable);
+
+    CursorPageDtoResponse<CommentDtoResponse> readByNewsIdAfter(Long newsId, String after, Pageable pageable);
 }
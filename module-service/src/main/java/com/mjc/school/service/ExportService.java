@@ -0,0 +1,14 @@
+package com.mjc.school.service;
+
+import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.export.ExportFormat;
+
+import java.io.OutputStream;
+
+public interface ExportService {
+    void exportNews(ParametersDtoRequest parametersDtoRequest, ExportFormat format, OutputStream output);
+
+    void exportComments(ExportFormat format, OutputStream output);
+
+    void exportAuthors(ExportFormat format, OutputStream output);
+}
@@ -0,0 +1,8 @@
+package com.mjc.school.service;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface NewsImportService {
+    void importNews(InputStream input, OutputStream output);
+}
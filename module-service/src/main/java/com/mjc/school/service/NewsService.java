@@ -1,11 +1,23 @@
 package com.mjc.school.service;
 
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.FieldSelection;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.dto.SearchingRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface NewsService extends BaseService<NewsDtoRequest, NewsDtoResponse, Long> {
     Page<NewsDtoResponse> readByParams(ParametersDtoRequest parametersDtoRequest, Pageable pageable);
+
+    Slice<NewsDtoResponse> readByParamsSlice(ParametersDtoRequest parametersDtoRequest, Pageable pageable);
+
+    CursorPageDtoResponse<NewsDtoResponse> readAllAfter(SearchingRequest searchingRequest, String after, Pageable pageable);
+
+    CursorPageDtoResponse<NewsDtoResponse> readAllAfter(SearchingRequest searchingRequest, String after, Pageable pageable, FieldSelection fields);
+
+    CursorPageDtoResponse<NewsDtoResponse> readByParamsAfter(ParametersDtoRequest parametersDtoRequest, String after, Pageable pageable);
 }
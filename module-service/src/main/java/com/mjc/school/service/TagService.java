@@ -1,5 +1,7 @@
 package com.mjc.school.service;
 
+import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.dto.TagBulkDtoResponse;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import org.springframework.data.domain.Page;
@@ -7,4 +9,10 @@ import org.springframework.data.domain.Pageable;
 
 public interface TagService extends BaseService<TagDtoRequest, TagDtoResponse, Long> {
     Page<TagDtoResponse> readByNewsId(Long newsId, Pageable pageable);
+
+    TagBulkDtoResponse merge(Long sourceId, Long targetId);
+
+    TagBulkDtoResponse addToNews(Long id, ParametersDtoRequest parametersDtoRequest);
+
+    TagBulkDtoResponse removeFromNews(Long id, ParametersDtoRequest parametersDtoRequest);
 }
@@ -3,28 +3,49 @@ package com.mjc.school.service.impl;
 import com.mjc.school.annotation.Valid;
 import com.mjc.school.dto.AuthorDtoRequest;
 import com.mjc.school.dto.AuthorDtoResponseWithNews;
+import com.mjc.school.dto.FieldSelection;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.event.AuthorSavedEvent;
+import com.mjc.school.event.NewsDeletedEvent;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.PreconditionFailedException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.AuthorDtoMapper;
+import com.mjc.school.mapper.NewsDtoAssembler;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.Comment;
+import com.mjc.school.model.News;
+import com.mjc.school.model.projection.AuthorRow;
+import com.mjc.school.model.projection.AuthorVersionRow;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.service.AuthorService;
+import com.mjc.school.version.ResourceVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.PRECONDITION_FAILED;
 import static com.mjc.school.exception.ExceptionErrorCodes.USER_DOES_NOT_EXIST;
 
 @Service
@@ -32,28 +53,90 @@ import static com.mjc.school.exception.ExceptionErrorCodes.USER_DOES_NOT_EXIST;
 public class AuthorServiceImpl implements AuthorService {
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthorServiceImpl.class);
     private static final List<String> fieldsToSearch = List.of("name");
+    private static final String NEWS = "news";
+    private static final Map<String, List<String>> FIELD_PATHS = Map.of(
+            "id", List.of("id"),
+            "name", List.of("name"),
+            "createDate", List.of("createDate"),
+            "lastUpdateDate", List.of("lastUpdateDate"),
+            "newsCount", List.of("newsCount"),
+            NEWS, List.of());
 
     private final AuthorRepository authorRepository;
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
 
     private final AuthorDtoMapper authorDtoMapper;
+    private final NewsDtoAssembler newsDtoAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TotalCountCache totalCountCache;
 
     @Autowired
-    public AuthorServiceImpl(AuthorRepository authorRepository, AuthorDtoMapper authorDtoMapper) {
+    public AuthorServiceImpl(AuthorRepository authorRepository, NewsRepository newsRepository, CommentRepository commentRepository,
+                             AuthorDtoMapper authorDtoMapper, NewsDtoAssembler newsDtoAssembler,
+                             ApplicationEventPublisher eventPublisher, TotalCountCache totalCountCache) {
         this.authorRepository = authorRepository;
+        this.newsRepository = newsRepository;
+        this.commentRepository = commentRepository;
         this.authorDtoMapper = authorDtoMapper;
+        this.newsDtoAssembler = newsDtoAssembler;
+        this.eventPublisher = eventPublisher;
+        this.totalCountCache = totalCountCache;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<AuthorDtoResponseWithNews> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable) {
+        return readAll(searchingRequest, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<AuthorDtoResponseWithNews> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
         if (searchingRequest == null) {
-            LOGGER.info("Reading all authors");
-            return authorRepository.findAll(pageable).map(authorDtoMapper::modelToDtoWithNews);
+            LOGGER.info("Reading all authors with fields {}", fields);
+            Slice<AuthorRow> slice = fields.isAll()
+                    ? authorRepository.findRowSlice(null, pageable)
+                    : authorRepository.findRowSlice(null, pageable, fields.paths(FIELD_PATHS));
+            long total = totalCountCache.get(Author.class, authorRepository::count);
+            return new PageImpl<>(toDtos(slice.getContent(), fields), pageable, total);
         }
-        LOGGER.info("Reading all authors for {}", searchingRequest.getValue());
+        LOGGER.info("Reading all authors for {} with fields {}", searchingRequest.getValue(), fields);
 
         Specification<Author> specification = EntitySpecification.searchByFields(fieldsToSearch, searchingRequest.getValue());
-        return authorRepository.findAll(specification, pageable).map(authorDtoMapper::modelToDtoWithNews);
+        Page<AuthorRow> page = fields.isAll()
+                ? authorRepository.findRows(specification, pageable)
+                : authorRepository.findRows(specification, pageable, fields.paths(FIELD_PATHS));
+        return new PageImpl<>(toDtos(page.getContent(), fields), pageable, page.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AuthorDtoResponseWithNews> readAllSlice(@Valid SearchingRequest searchingRequest, Pageable pageable) {
+        return readAllSlice(searchingRequest, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<AuthorDtoResponseWithNews> readAllSlice(@Valid SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
+        LOGGER.info("Reading a slice of authors for {} with fields {}", searchingRequest != null ? searchingRequest.getValue() : null, fields);
+        Specification<Author> specification = searchingRequest != null
+                ? EntitySpecification.searchByFields(fieldsToSearch, searchingRequest.getValue())
+                : null;
+        Slice<AuthorRow> slice = fields.isAll()
+                ? authorRepository.findRowSlice(specification, pageable)
+                : authorRepository.findRowSlice(specification, pageable, fields.paths(FIELD_PATHS));
+        return new SliceImpl<>(toDtos(slice.getContent(), fields), pageable, slice.hasNext());
+    }
+
+    private List<AuthorDtoResponseWithNews> toDtos(List<AuthorRow> rows, FieldSelection fields) {
+        if (!fields.includes(NEWS)) {
+            return rows.stream().map(row -> authorDtoMapper.rowToDtoWithNews(row, null)).toList();
+        }
+        Map<Long, List<NewsDtoResponse>> newsByAuthorId = newsDtoAssembler.readByAuthorIds(rows.stream().map(AuthorRow::id).toList());
+        return rows.stream()
+                .map(row -> authorDtoMapper.rowToDtoWithNews(row, newsByAuthorId.getOrDefault(row.id(), new ArrayList<>())))
+                .toList();
     }
 
     @Override
@@ -68,6 +151,17 @@ public class AuthorServiceImpl implements AuthorService {
         return authorDtoMapper.modelToDtoWithNews(author);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion readVersion(@Valid Long id) {
+        AuthorVersionRow row = authorRepository.findVersionRowById(id)
+                .orElseThrow(() -> {
+                    LOGGER.warn("Author with id {} not found", id);
+                    return new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id));
+                });
+        return ResourceVersion.of(List.of(row));
+    }
+
     @Override
     @Transactional
     public AuthorDtoResponseWithNews create(@Valid AuthorDtoRequest createRequest) {
@@ -75,12 +169,19 @@ public class AuthorServiceImpl implements AuthorService {
 
         Author model = authorDtoMapper.dtoToModel(createRequest);
         Author author = authorRepository.save(model);
+        totalCountCache.evict(Author.class);
         return authorDtoMapper.modelToDtoWithNews(author);
     }
 
     @Override
     @Transactional
     public AuthorDtoResponseWithNews update(@Valid Long id, @Valid AuthorDtoRequest updateRequest) {
+        return update(id, updateRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public AuthorDtoResponseWithNews update(@Valid Long id, @Valid AuthorDtoRequest updateRequest, String ifMatch) {
         LOGGER.info("Updating author with id {}", id);
 
         Author author = authorRepository.findById(id)
@@ -88,14 +189,23 @@ public class AuthorServiceImpl implements AuthorService {
                     LOGGER.warn("Author with id {} not found. Unable to update author", id);
                     return new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
 
         author.setName(updateRequest.getName());
-        return authorDtoMapper.modelToDtoWithNews(authorRepository.save(author));
+        Author savedAuthor = authorRepository.save(author);
+        eventPublisher.publishEvent(new AuthorSavedEvent(savedAuthor.getId(), savedAuthor.getName()));
+        return authorDtoMapper.modelToDtoWithNews(savedAuthor);
     }
 
     @Override
     @Transactional
     public AuthorDtoResponseWithNews patch(@Valid Long id, @Valid AuthorDtoRequest patchRequest) {
+        return patch(id, patchRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public AuthorDtoResponseWithNews patch(@Valid Long id, @Valid AuthorDtoRequest patchRequest, String ifMatch) {
         LOGGER.info("Patching author with id {}", id);
         String name = patchRequest.getName();
 
@@ -104,12 +214,14 @@ public class AuthorServiceImpl implements AuthorService {
                     LOGGER.warn("Author with id {} not found. Unable to patch author", id);
                     return new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
 
         if (name != null) {
             prevAuthor.setName(name);
         }
 
         Author savedAuthor = authorRepository.save(prevAuthor);
+        eventPublisher.publishEvent(new AuthorSavedEvent(savedAuthor.getId(), savedAuthor.getName()));
         return authorDtoMapper.modelToDtoWithNews(savedAuthor);
     }
 
@@ -117,11 +229,18 @@ public class AuthorServiceImpl implements AuthorService {
     @Transactional
     public void deleteById(@Valid Long id) {
         LOGGER.info("Deleting author by id {}", id);
-        if (!authorRepository.existsById(id)) {
+        List<Long> newsIds = authorRepository.readNewsIdsById(id);
+        commentRepository.deleteByAuthorId(id);
+        newsRepository.deleteTagLinksByAuthorId(id);
+        newsRepository.deleteByAuthorId(id);
+        if (authorRepository.deleteAuthorById(id) == 0) {
             LOGGER.warn("Author with id {} not found. Unable to delete author", id);
             throw new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id));
         }
-        authorRepository.deleteById(id);
+        totalCountCache.evict(Author.class);
+        totalCountCache.evict(News.class);
+        totalCountCache.evict(Comment.class);
+        newsIds.forEach(newsId -> eventPublisher.publishEvent(new NewsDeletedEvent(newsId)));
     }
 
     @Override
@@ -146,4 +265,11 @@ public class AuthorServiceImpl implements AuthorService {
         });
         return authorDtoMapper.modelToDtoWithNews(author);
     }
+
+    private void requireVersion(Long id, String ifMatch) {
+        if (ifMatch != null && !readVersion(id).matches(ifMatch)) {
+            LOGGER.warn("Author with id {} does not match {}", id, ifMatch);
+            throw new PreconditionFailedException(String.format(PRECONDITION_FAILED.getErrorMessage(), id));
+        }
+    }
 }
@@ -0,0 +1,65 @@
+package com.mjc.school.service.impl;
+
+import com.mjc.school.auth.UserDetailsServiceImpl;
+import com.mjc.school.dto.CacheRegionDtoResponse;
+import com.mjc.school.dto.PrincipalCacheDtoResponse;
+import com.mjc.school.dto.SearchCacheDtoResponse;
+import com.mjc.school.search.SearchResultCache;
+import com.mjc.school.service.CacheStatisticsService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Service
+@Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class CacheStatisticsServiceImpl implements CacheStatisticsService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CacheStatisticsServiceImpl.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final SearchResultCache searchResultCache;
+    private final UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    public CacheStatisticsServiceImpl(EntityManagerFactory entityManagerFactory, SearchResultCache searchResultCache,
+                                      UserDetailsServiceImpl userDetailsService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.searchResultCache = searchResultCache;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public List<CacheRegionDtoResponse> readRegions() {
+        LOGGER.info("Reading second-level cache statistics");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .sorted()
+                .map(region -> {
+                    CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+                    return new CacheRegionDtoResponse(region, regionStatistics.getHitCount(), regionStatistics.getMissCount(),
+                            regionStatistics.getPutCount(), regionStatistics.getElementCountInMemory());
+                })
+                .toList();
+    }
+
+    @Override
+    public SearchCacheDtoResponse readSearchCache() {
+        LOGGER.info("Reading search result cache statistics");
+        return searchResultCache.statistics();
+    }
+
+    @Override
+    public PrincipalCacheDtoResponse readPrincipalCache() {
+        LOGGER.info("Reading principal cache statistics");
+        return userDetailsService.statistics();
+    }
+}
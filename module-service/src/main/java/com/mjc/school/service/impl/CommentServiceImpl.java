@@ -3,61 +3,138 @@ package com.mjc.school.service.impl;
 import com.mjc.school.annotation.Valid;
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.FieldSelection;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.PreconditionFailedException;
+import com.mjc.school.filter.CommentSpecification;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.CommentDtoMapper;
+import com.mjc.school.mapper.NewsDtoAssembler;
 import com.mjc.school.mapper.NewsDtoMapper;
 import com.mjc.school.model.Comment;
+import com.mjc.school.model.projection.CommentRow;
+import com.mjc.school.model.projection.CommentVersionRow;
+import com.mjc.school.model.projection.NewsVersionRow;
+import com.mjc.school.pagination.KeysetPaginator;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.version.ResourceVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.COMMENT_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.PRECONDITION_FAILED;
 
 @Service
 @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class CommentServiceImpl implements CommentService {
     private final static Logger LOGGER = LoggerFactory.getLogger(CommentServiceImpl.class);
     private static final List<String> fieldsToSearch = List.of("content");
+    private static final String NEWS = "news";
+    private static final Set<String> SEEK_PROPERTIES = Set.of("createDate");
+    private static final Map<String, List<String>> FIELD_PATHS = Map.of(
+            "id", List.of("id"),
+            "content", List.of("content"),
+            "createDate", List.of("createDate"),
+            "lastUpdateDate", List.of("lastUpdateDate"),
+            NEWS, List.of("news.id"));
 
     private final CommentRepository commentRepository;
     private final NewsRepository newsRepository;
 
     private final CommentDtoMapper commentDtoMapper;
     private final NewsDtoMapper newsDtoMapper;
+    private final NewsDtoAssembler newsDtoAssembler;
+    private final TotalCountCache totalCountCache;
 
     @Autowired
-    public CommentServiceImpl(CommentRepository commentRepository, NewsRepository newsRepository, CommentDtoMapper commentDtoMapper, NewsDtoMapper newsDtoMapper) {
+    public CommentServiceImpl(CommentRepository commentRepository, NewsRepository newsRepository, CommentDtoMapper commentDtoMapper, NewsDtoMapper newsDtoMapper,
+                              NewsDtoAssembler newsDtoAssembler, TotalCountCache totalCountCache) {
         this.commentRepository = commentRepository;
         this.newsRepository = newsRepository;
         this.commentDtoMapper = commentDtoMapper;
         this.newsDtoMapper = newsDtoMapper;
+        this.newsDtoAssembler = newsDtoAssembler;
+        this.totalCountCache = totalCountCache;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<CommentDtoResponse> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable) {
+        return readAll(searchingRequest, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<CommentDtoResponse> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
         if (searchingRequest == null) {
-            LOGGER.info("Reading all the comments");
-            return commentRepository.findAll(pageable).map(comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper));
+            LOGGER.info("Reading all the comments with fields {}", fields);
+            Slice<CommentRow> slice = fields.isAll()
+                    ? commentRepository.findRowSlice(null, pageable)
+                    : commentRepository.findRowSlice(null, pageable, fields.paths(FIELD_PATHS));
+            long total = totalCountCache.get(Comment.class, commentRepository::count);
+            return new PageImpl<>(toDtos(slice.getContent(), fields), pageable, total);
         }
-        LOGGER.info("Reading all the comments for {}", searchingRequest.getValue());
+        LOGGER.info("Reading all the comments for {} with fields {}", searchingRequest.getValue(), fields);
         Specification<Comment> specification = EntitySpecification.searchByFields(fieldsToSearch, searchingRequest.getValue());
-        return commentRepository.findAll(specification, pageable).map(comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper));
+        Page<CommentRow> page = fields.isAll()
+                ? commentRepository.findRows(specification, pageable)
+                : commentRepository.findRows(specification, pageable, fields.paths(FIELD_PATHS));
+        return new PageImpl<>(toDtos(page.getContent(), fields), pageable, page.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CommentDtoResponse> readAllSlice(@Valid SearchingRequest searchingRequest, Pageable pageable) {
+        return readAllSlice(searchingRequest, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<CommentDtoResponse> readAllSlice(@Valid SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
+        LOGGER.info("Reading a slice of comments for {} with fields {}", searchingRequest != null ? searchingRequest.getValue() : null, fields);
+        Specification<Comment> specification = searchingRequest != null
+                ? EntitySpecification.searchByFields(fieldsToSearch, searchingRequest.getValue())
+                : null;
+        Slice<CommentRow> slice = fields.isAll()
+                ? commentRepository.findRowSlice(specification, pageable)
+                : commentRepository.findRowSlice(specification, pageable, fields.paths(FIELD_PATHS));
+        return new SliceImpl<>(toDtos(slice.getContent(), fields), pageable, slice.hasNext());
+    }
+
+    private List<CommentDtoResponse> toDtos(List<CommentRow> rows) {
+        return toDtos(rows, FieldSelection.ALL);
+    }
+
+    private List<CommentDtoResponse> toDtos(List<CommentRow> rows, FieldSelection fields) {
+        if (!fields.includes(NEWS)) {
+            return rows.stream().map(row -> commentDtoMapper.rowToDto(row, null)).toList();
+        }
+        Map<Long, NewsDtoResponse> newsById = newsDtoAssembler.readByIds(rows.stream().map(CommentRow::newsId).distinct().toList());
+        return rows.stream()
+                .map(row -> commentDtoMapper.rowToDto(row, newsById.get(row.newsId())))
+                .toList();
     }
 
     @Override
@@ -72,6 +149,18 @@ public class CommentServiceImpl implements CommentService {
         return commentDtoMapper.modelToDto(comment, newsDtoMapper);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion readVersion(@Valid Long id) {
+        CommentVersionRow comment = commentRepository.findVersionRowById(id)
+                .orElseThrow(() -> {
+                    LOGGER.error("Comment with id {} not found", id);
+                    return new NotFoundException(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id));
+                });
+        List<NewsVersionRow> news = newsRepository.findVersionRowsById(comment.newsId());
+        return ResourceVersion.of(List.of(comment, news));
+    }
+
     @Override
     @Transactional
     public CommentDtoResponse create(@Valid CommentDtoRequest createRequest) {
@@ -80,19 +169,29 @@ public class CommentServiceImpl implements CommentService {
             LOGGER.error("News with id {} not found. Unable to create comment", createRequest.getNewsId());
             throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), createRequest.getNewsId()));
         }
+        newsRepository.adjustCommentCount(createRequest.getNewsId(), 1);
         Comment model = commentDtoMapper.dtoToModel(createRequest, newsRepository);
-        return commentDtoMapper.modelToDto(commentRepository.save(model), newsDtoMapper);
+        Comment savedComment = commentRepository.save(model);
+        totalCountCache.evict(Comment.class);
+        return commentDtoMapper.modelToDto(savedComment, newsDtoMapper);
     }
 
     @Override
     @Transactional
     public CommentDtoResponse update(@Valid Long id, @Valid CommentDtoRequest updateRequest) {
+        return update(id, updateRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public CommentDtoResponse update(@Valid Long id, @Valid CommentDtoRequest updateRequest, String ifMatch) {
         LOGGER.info("Updating comment with id {}", id);
         Comment prevComment = commentRepository.findById(id)
                 .orElseThrow(() -> {
                     LOGGER.error("Comment with id {} not found. Unable to update comment", id);
                     return new NotFoundException(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
         prevComment.setContent(updateRequest.getContent());
 
         return commentDtoMapper.modelToDto(commentRepository.save(prevComment), newsDtoMapper);
@@ -101,6 +200,12 @@ public class CommentServiceImpl implements CommentService {
     @Override
     @Transactional
     public CommentDtoResponse patch(@Valid Long id, @Valid CommentDtoRequest patchRequest) {
+        return patch(id, patchRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public CommentDtoResponse patch(@Valid Long id, @Valid CommentDtoRequest patchRequest, String ifMatch) {
         LOGGER.info("Patching comment with id {}", id);
         String content = patchRequest.getContent();
 
@@ -109,6 +214,7 @@ public class CommentServiceImpl implements CommentService {
                     LOGGER.error("Comment with id {} not found. Unable to patch comment", id);
                     return new NotFoundException(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
         if (content != null) {
             prevComment.setContent(content);
         }
@@ -121,11 +227,12 @@ public class CommentServiceImpl implements CommentService {
     @Transactional
     public void deleteById(@Valid Long id) {
         LOGGER.info("Deleting comment with id {}", id);
-        if (!commentRepository.existsById(id)) {
+        newsRepository.decrementCommentCountByCommentId(id);
+        if (commentRepository.deleteCommentById(id) == 0) {
             LOGGER.error("Comment with id {} not found. Unable to delete comment", id);
             throw new NotFoundException(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id));
         }
-        commentRepository.deleteById(id);
+        totalCountCache.evict(Comment.class);
     }
 
     @Override
@@ -136,6 +243,26 @@ public class CommentServiceImpl implements CommentService {
             LOGGER.error("News with id {} not found. Unable to read comments", newsId);
             throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), newsId));
         }
-        return commentRepository.readByNewsId(newsId, pageable).map(comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper));
+        Page<CommentRow> page = commentRepository.findRows(CommentSpecification.byNewsId(newsId), pageable);
+        return new PageImpl<>(toDtos(page.getContent()), pageable, page.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDtoResponse<CommentDtoResponse> readByNewsIdAfter(@Valid Long newsId, String after, Pageable pageable) {
+        LOGGER.info("Reading comments by news id {} after cursor {}", newsId, after);
+        if (!newsRepository.existsById(newsId)) {
+            LOGGER.error("News with id {} not found. Unable to read comments", newsId);
+            throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), newsId));
+        }
+        return KeysetPaginator.scroll(commentRepository, CommentSpecification.byNewsId(newsId), after, pageable, SEEK_PROPERTIES,
+                comment -> commentDtoMapper.modelToDto(comment, newsDtoMapper), NEWS);
+    }
+
+    private void requireVersion(Long id, String ifMatch) {
+        if (ifMatch != null && !readVersion(id).matches(ifMatch)) {
+            LOGGER.error("Comment with id {} does not match {}", id, ifMatch);
+            throw new PreconditionFailedException(String.format(PRECONDITION_FAILED.getErrorMessage(), id));
+        }
     }
 }
@@ -0,0 +1,126 @@
+package com.mjc.school.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.export.ExportFormat;
+import com.mjc.school.export.ExportWriter;
+import com.mjc.school.filter.NewsSpecification;
+import com.mjc.school.model.projection.AuthorRow;
+import com.mjc.school.model.projection.CommentRow;
+import com.mjc.school.model.projection.NewsRow;
+import com.mjc.school.model.projection.NewsTagRow;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.service.ExportService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.mapping;
+import static java.util.stream.Collectors.toList;
+
+@Service
+@Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class ExportServiceImpl implements ExportService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExportServiceImpl.class);
+    private static final Sort BY_ID = Sort.by("id");
+    private static final List<String> NEWS_COLUMNS =
+            List.of("id", "title", "content", "createDate", "lastUpdateDate", "authorId", "authorName", "tags");
+    private static final List<String> COMMENT_COLUMNS = List.of("id", "content", "createDate", "lastUpdateDate", "newsId");
+    private static final List<String> AUTHOR_COLUMNS = List.of("id", "name", "createDate", "lastUpdateDate");
+
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
+    private final AuthorRepository authorRepository;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    @Autowired
+    public ExportServiceImpl(NewsRepository newsRepository, CommentRepository commentRepository, AuthorRepository authorRepository,
+                             ObjectMapper objectMapper, @Value("${export.fetch-size:500}") int fetchSize) {
+        this.newsRepository = newsRepository;
+        this.commentRepository = commentRepository;
+        this.authorRepository = authorRepository;
+        this.objectMapper = objectMapper;
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportNews(ParametersDtoRequest parametersDtoRequest, ExportFormat format, OutputStream output) {
+        LOGGER.info("Exporting news by params {} as {}", parametersDtoRequest, format);
+        try (Stream<NewsRow> rows = newsRepository.streamRows(NewsSpecification.byParams(parametersDtoRequest.toSearchParameters()), BY_ID, fetchSize)) {
+            ExportWriter writer = ExportWriter.create(format, NEWS_COLUMNS, output, objectMapper);
+            Iterator<NewsRow> iterator = rows.iterator();
+            List<NewsRow> chunk = new ArrayList<>(fetchSize);
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == fetchSize || !iterator.hasNext()) {
+                    writeNews(writer, chunk);
+                    chunk.clear();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportComments(ExportFormat format, OutputStream output) {
+        LOGGER.info("Exporting comments as {}", format);
+        try (Stream<CommentRow> rows = commentRepository.streamRows(null, BY_ID, fetchSize)) {
+            ExportWriter writer = ExportWriter.create(format, COMMENT_COLUMNS, output, objectMapper);
+            for (Iterator<CommentRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                CommentRow row = iterator.next();
+                writer.write(row.id(), row.content(), row.createDate(), row.lastUpdateDate(), row.newsId());
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAuthors(ExportFormat format, OutputStream output) {
+        LOGGER.info("Exporting authors as {}", format);
+        try (Stream<AuthorRow> rows = authorRepository.streamRows(null, BY_ID, fetchSize)) {
+            ExportWriter writer = ExportWriter.create(format, AUTHOR_COLUMNS, output, objectMapper);
+            for (Iterator<AuthorRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                AuthorRow row = iterator.next();
+                writer.write(row.id(), row.name(), row.createDate(), row.lastUpdateDate());
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeNews(ExportWriter writer, List<NewsRow> chunk) throws IOException {
+        Map<Long, List<String>> tagsByNewsId = newsRepository.findTagRowsByNewsIds(chunk.stream().map(NewsRow::id).toList()).stream()
+                .collect(groupingBy(NewsTagRow::newsId, mapping(NewsTagRow::tagName, toList())));
+        for (NewsRow row : chunk) {
+            writer.write(row.id(), row.title(), row.content(), row.createDate(), row.lastUpdateDate(),
+                    row.authorId(), row.authorName(), tagsByNewsId.getOrDefault(row.id(), List.of()));
+        }
+    }
+}
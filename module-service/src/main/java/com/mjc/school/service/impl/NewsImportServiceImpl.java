@@ -0,0 +1,261 @@
+package com.mjc.school.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.dto.NewsImportDtoRequest;
+import com.mjc.school.dto.NewsImportDtoResponse;
+import com.mjc.school.dto.TagDtoRequest;
+import com.mjc.school.event.NewsSavedEvent;
+import com.mjc.school.event.TagSavedEvent;
+import com.mjc.school.model.News;
+import com.mjc.school.model.NewsInsertRow;
+import com.mjc.school.model.NewsTagPair;
+import com.mjc.school.model.Tag;
+import com.mjc.school.pagination.TotalCountCache;
+import com.mjc.school.repository.NewsBatchRepository;
+import com.mjc.school.service.NewsImportService;
+import com.mjc.school.validator.ConstraintViolation;
+import com.mjc.school.validator.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.annotation.ScopedProxyMode;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.ENTITY_ALREADY_EXISTS;
+import static com.mjc.school.exception.ExceptionErrorCodes.IMPORT_FAILED;
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
+
+@Service
+@Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
+public class NewsImportServiceImpl implements NewsImportService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(NewsImportServiceImpl.class);
+    private static final byte[] LINE_SEPARATOR = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final NewsBatchRepository newsBatchRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TotalCountCache totalCountCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    @Autowired
+    public NewsImportServiceImpl(NewsBatchRepository newsBatchRepository, Validator validator, ObjectMapper objectMapper,
+                                 ApplicationEventPublisher eventPublisher, TotalCountCache totalCountCache,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${news.import.batch-size:500}") int batchSize) {
+        this.newsBatchRepository = newsBatchRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.totalCountCache = totalCountCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void importNews(InputStream input, OutputStream output) {
+        LOGGER.info("Importing news in batches of {}", batchSize);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<ImportLine> batch = new ArrayList<>(batchSize);
+        long lineNumber = 0;
+        long created = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(parse(lineNumber, line));
+                if (batch.size() == batchSize) {
+                    created += flush(batch, output);
+                }
+            }
+            created += flush(batch, output);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        LOGGER.info("Imported {} news from {} lines", created, lineNumber);
+    }
+
+    private ImportLine parse(long lineNumber, String line) {
+        NewsImportDtoRequest request;
+        try {
+            request = objectMapper.readValue(line, NewsImportDtoRequest.class);
+        } catch (JsonProcessingException e) {
+            return new ImportLine(lineNumber, null, String.format(VALIDATION_EXCEPTION.getErrorMessage(), e.getOriginalMessage()));
+        }
+        Set<ConstraintViolation> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return new ImportLine(lineNumber, null, String.format(VALIDATION_EXCEPTION.getErrorMessage(), violations.iterator().next().message()));
+        }
+        return new ImportLine(lineNumber, request, null);
+    }
+
+    private long flush(List<ImportLine> batch, OutputStream output) throws IOException {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<NewsImportDtoResponse> results;
+        try {
+            results = importWithRetry(batch);
+        } catch (DataAccessException e) {
+            LOGGER.error("Unable to import batch starting at line {}", batch.get(0).number(), e);
+            results = batch.stream()
+                    .map(line -> NewsImportDtoResponse.failed(line.number(), line.error() != null ? line.error() : IMPORT_FAILED.getErrorMessage()))
+                    .toList();
+        }
+        long created = 0;
+        for (NewsImportDtoResponse result : results) {
+            output.write(objectMapper.writeValueAsBytes(result));
+            output.write(LINE_SEPARATOR);
+            if (result.status() == NewsImportDtoResponse.Status.CREATED) {
+                created++;
+            }
+        }
+        output.flush();
+        batch.clear();
+        return created;
+    }
+
+    private List<NewsImportDtoResponse> importWithRetry(List<ImportLine> batch) {
+        try {
+            return transactionTemplate.execute(status -> importBatch(batch));
+        } catch (DataAccessException e) {
+            LOGGER.warn("Retrying batch starting at line {} after {}", batch.get(0).number(), e.getClass().getSimpleName());
+            return transactionTemplate.execute(status -> importBatch(batch));
+        }
+    }
+
+    private List<NewsImportDtoResponse> importBatch(List<ImportLine> batch) {
+        if (batch.stream().allMatch(line -> line.request() == null)) {
+            return batch.stream().map(line -> NewsImportDtoResponse.failed(line.number(), line.error())).toList();
+        }
+        Set<String> authorNames = new HashSet<>();
+        Set<String> titles = new HashSet<>();
+        Set<String> tagNames = new LinkedHashSet<>();
+        for (ImportLine line : batch) {
+            if (line.request() != null) {
+                authorNames.add(line.request().getAuthorName());
+                titles.add(line.request().getTitle());
+                if (line.request().getTagNames() != null) {
+                    tagNames.addAll(line.request().getTagNames());
+                }
+            }
+        }
+        Map<String, Long> authorIds = newsBatchRepository.findAuthorIdsByNames(authorNames);
+        Set<String> takenTitles = new HashSet<>(newsBatchRepository.findExistingTitles(titles));
+        Map<String, Long> tagIds = newsBatchRepository.findTagIdsByNames(tagNames);
+        Map<String, String> invalidTags = new HashMap<>();
+        for (String tagName : tagNames) {
+            if (!tagIds.containsKey(tagName)) {
+                Set<ConstraintViolation> violations = validator.validate(new TagDtoRequest(tagName));
+                if (!violations.isEmpty()) {
+                    invalidTags.put(tagName, String.format(VALIDATION_EXCEPTION.getErrorMessage(), violations.iterator().next().message()));
+                }
+            }
+        }
+
+        String[] errors = new String[batch.size()];
+        List<ImportLine> accepted = new ArrayList<>();
+        Set<String> newTagNames = new LinkedHashSet<>();
+        for (int i = 0; i < batch.size(); i++) {
+            ImportLine line = batch.get(i);
+            errors[i] = line.error() != null ? line.error() : reject(line.request(), authorIds, takenTitles, invalidTags);
+            if (errors[i] == null) {
+                accepted.add(line);
+                takenTitles.add(line.request().getTitle());
+                if (line.request().getTagNames() != null) {
+                    line.request().getTagNames().stream().filter(name -> !tagIds.containsKey(name)).forEach(newTagNames::add);
+                }
+            }
+        }
+
+        Map<String, Long> insertedTags = newTagNames.isEmpty() ? Map.of() : newsBatchRepository.insertTags(new ArrayList<>(newTagNames));
+        insertedTags.forEach((name, id) -> eventPublisher.publishEvent(new TagSavedEvent(id, name)));
+        tagIds.putAll(insertedTags);
+
+        List<NewsInsertRow> rows = accepted.stream()
+                .map(line -> new NewsInsertRow(line.request().getTitle(), line.request().getContent(), authorIds.get(line.request().getAuthorName())))
+                .toList();
+        List<Long> newsIds = rows.isEmpty() ? List.of() : newsBatchRepository.insertNews(rows, LocalDateTime.now());
+
+        List<NewsTagPair> pairs = new ArrayList<>();
+        Map<ImportLine, Long> idsByLine = new HashMap<>();
+        for (int i = 0; i < accepted.size(); i++) {
+            ImportLine line = accepted.get(i);
+            Long newsId = newsIds.get(i);
+            List<Long> newsTagIds = line.request().getTagNames() != null
+                    ? line.request().getTagNames().stream().map(tagIds::get).distinct().toList()
+                    : List.of();
+            newsTagIds.forEach(tagId -> pairs.add(new NewsTagPair(newsId, tagId)));
+            idsByLine.put(line, newsId);
+            eventPublisher.publishEvent(new NewsSavedEvent(newsId, line.request().getTitle(), line.request().getContent(), newsTagIds));
+        }
+        newsBatchRepository.insertNewsTags(pairs);
+        newsBatchRepository.incrementAuthorNewsCounts(rows.stream()
+                .collect(Collectors.groupingBy(NewsInsertRow::authorId, Collectors.counting())));
+
+        if (!insertedTags.isEmpty()) {
+            totalCountCache.evict(Tag.class);
+        }
+        if (!accepted.isEmpty()) {
+            totalCountCache.evict(News.class);
+        }
+
+        List<NewsImportDtoResponse> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            ImportLine line = batch.get(i);
+            results.add(errors[i] != null
+                    ? NewsImportDtoResponse.failed(line.number(), errors[i])
+                    : NewsImportDtoResponse.created(line.number(), idsByLine.get(line)));
+        }
+        return results;
+    }
+
+    private String reject(NewsImportDtoRequest request, Map<String, Long> authorIds, Set<String> takenTitles, Map<String, String> invalidTags) {
+        if (!authorIds.containsKey(request.getAuthorName())) {
+            return String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), request.getAuthorName());
+        }
+        if (takenTitles.contains(request.getTitle())) {
+            return String.format(ENTITY_ALREADY_EXISTS.getErrorMessage(), request.getTitle());
+        }
+        if (request.getTagNames() != null) {
+            for (String tagName : request.getTagNames()) {
+                if (invalidTags.containsKey(tagName)) {
+                    return invalidTags.get(tagName);
+                }
+            }
+        }
+        return null;
+    }
+
+    private record ImportLine(long number, NewsImportDtoRequest request, String error) {
+    }
+}
@@ -1,115 +1,326 @@
 package com.mjc.school.service.impl;
 
 import com.mjc.school.annotation.Valid;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.FieldSelection;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.event.NewsDeletedEvent;
+import com.mjc.school.event.NewsSavedEvent;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.PreconditionFailedException;
+import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.filter.NewsSpecification;
+import com.mjc.school.filter.NewsTextSearch;
+import com.mjc.school.mapper.NewsDtoAssembler;
 import com.mjc.school.mapper.NewsDtoMapper;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.Comment;
 import com.mjc.school.model.News;
 import com.mjc.school.model.SearchParameters;
 import com.mjc.school.model.Tag;
+import com.mjc.school.model.projection.NewsRow;
+import com.mjc.school.model.projection.NewsVersionRow;
+import com.mjc.school.pagination.KeysetPaginator;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
+import com.mjc.school.search.NewsQuery;
+import com.mjc.school.search.NewsQueryCache;
+import com.mjc.school.search.NewsSearchIndex;
+import com.mjc.school.search.NewsSearchQuery;
+import com.mjc.school.search.SearchResultCache;
+import com.mjc.school.search.TagBitmapIndex;
+import com.mjc.school.search.TagQuery;
 import com.mjc.school.service.NewsService;
+import com.mjc.school.version.ResourceVersion;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
-import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.PRECONDITION_FAILED;
+import static com.mjc.school.exception.ExceptionErrorCodes.TAGS_DO_NOT_EXIST;
 
 @Service
 @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class NewsServiceImpl implements NewsService {
     private static final Logger LOGGER = LoggerFactory.getLogger(NewsServiceImpl.class);
+    private static final String AUTHOR = "author";
+    private static final String RELEVANCE = "relevance";
+    private static final String ID = "id";
+    private static final Set<String> SEEK_PROPERTIES = Set.of("title", "createDate");
+    private static final int MAX_ID_FILTER_SIZE = 10_000;
 
     private final NewsRepository newsRepository;
     private final AuthorRepository authorRepository;
+    private final CommentRepository commentRepository;
     private final TagRepository tagRepository;
     private final NewsDtoMapper newsDtoMapper;
+    private final NewsDtoAssembler newsDtoAssembler;
+    private final NewsTextSearch newsTextSearch;
+    private final NewsSearchIndex newsSearchIndex;
+    private final TagBitmapIndex tagBitmapIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TotalCountCache totalCountCache;
+    private final SearchResultCache searchResultCache;
+    private final NewsQueryCache newsQueryCache;
 
     @Autowired
-    public NewsServiceImpl(NewsRepository newsRepository, AuthorRepository authorRepository, TagRepository tagRepository, NewsDtoMapper newsDtoMapper) {
+    public NewsServiceImpl(NewsRepository newsRepository, AuthorRepository authorRepository, CommentRepository commentRepository,
+                           TagRepository tagRepository, NewsDtoMapper newsDtoMapper,
+                           NewsDtoAssembler newsDtoAssembler, NewsTextSearch newsTextSearch, NewsSearchIndex newsSearchIndex, TagBitmapIndex tagBitmapIndex,
+                           ApplicationEventPublisher eventPublisher, TotalCountCache totalCountCache,
+                           SearchResultCache searchResultCache, NewsQueryCache newsQueryCache) {
         this.newsRepository = newsRepository;
         this.authorRepository = authorRepository;
+        this.commentRepository = commentRepository;
         this.tagRepository = tagRepository;
         this.newsDtoMapper = newsDtoMapper;
+        this.newsDtoAssembler = newsDtoAssembler;
+        this.newsTextSearch = newsTextSearch;
+        this.newsSearchIndex = newsSearchIndex;
+        this.tagBitmapIndex = tagBitmapIndex;
+        this.eventPublisher = eventPublisher;
+        this.totalCountCache = totalCountCache;
+        this.searchResultCache = searchResultCache;
+        this.newsQueryCache = newsQueryCache;
     }
 
-    private String parseSearchGetText(String search) {
-        if (search == null || search.isBlank()) {
-            return null;
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NewsDtoResponse> readAll(SearchingRequest searchingRequest, Pageable pageable) {
+        return readAll(searchingRequest, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NewsDtoResponse> readAll(SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
+        if (searchingRequest == null) {
+            LOGGER.info("Reading all the news with fields {}", fields);
+            Pageable unranked = withoutRelevance(pageable);
+            Slice<NewsRow> slice = findRowSlice(null, unranked, fields);
+            long total = totalCountCache.get(News.class, newsRepository::count);
+            return new PageImpl<>(newsDtoAssembler.toDtos(slice.getContent(), fields), unranked, total);
         }
 
-        String text;
+        fields.requireSupported(NewsDtoAssembler.FIELD_PATHS.keySet());
+        String searchValue = searchingRequest.getValue();
+        LOGGER.info("Reading all the news for {} with fields {}", searchValue, fields);
+        NewsSearchQuery query = newsQueryCache.parse(searchValue);
+        return searchResultCache.get(query, pageable, NewsDtoResponse::getId,
+                () -> search(query, pageable, fields), ids -> readInOrder(ids, fields));
+    }
 
-        Pattern pattern = Pattern.compile("#\\((.*?)\\)");
-        Matcher matcher = pattern.matcher(search);
+    private Page<NewsDtoResponse> search(NewsSearchQuery query, Pageable pageable, FieldSelection fields) {
+        String text = query.text();
+        if (text != null && !text.isEmpty() && newsSearchIndex.isReady()) {
+            long[] hits = newsSearchIndex.search(text);
+            if (hits.length <= MAX_ID_FILTER_SIZE) {
+                return readAllFromIndex(hits, query, pageable, fields);
+            }
+        }
+        if (pageable.getSort().getOrderFor(RELEVANCE) != null && query.isSimple()) {
+            return newsDtoAssembler.toDtoPage(findRows(searchSpecification(query, true),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()), fields), fields);
+        }
+        return newsDtoAssembler.toDtoPage(findRows(searchSpecification(query, false), withoutRelevance(pageable), fields), fields);
+    }
 
-        text = matcher.replaceAll("").trim();
+    private Page<NewsRow> findRows(Specification<News> specification, Pageable pageable, FieldSelection fields) {
+        if (fields.isAll()) {
+            return newsRepository.findRows(specification, pageable);
+        }
+        return newsRepository.findRows(specification, pageable, fields.paths(NewsDtoAssembler.FIELD_PATHS));
+    }
 
-        return text;
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<NewsDtoResponse> readAllSlice(SearchingRequest searchingRequest, Pageable pageable) {
+        return readAllSlice(searchingRequest, pageable, FieldSelection.ALL);
     }
 
-    private List<String> parseSearchGetTags(String search) {
-        if (search == null || search.isBlank()) {
-            return null;
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<NewsDtoResponse> readAllSlice(SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
+        String searchValue = searchingRequest != null ? searchingRequest.getValue() : null;
+        LOGGER.info("Reading a slice of the news for {} with fields {}", searchValue, fields);
+        Specification<News> specification = searchValue != null ? searchSpecification(newsQueryCache.parse(searchValue), false) : null;
+        return newsDtoAssembler.toDtoSlice(findRowSlice(specification, withoutRelevance(pageable), fields), fields);
+    }
 
-        List<String> tags = new ArrayList<>();
+    private Slice<NewsRow> findRowSlice(Specification<News> specification, Pageable pageable, FieldSelection fields) {
+        if (fields.isAll()) {
+            return newsRepository.findRowSlice(specification, pageable);
+        }
+        return newsRepository.findRowSlice(specification, pageable, fields.paths(NewsDtoAssembler.FIELD_PATHS));
+    }
 
-        Pattern pattern = Pattern.compile("#\\((.*?)\\)");
-        Matcher matcher = pattern.matcher(search);
+    private Page<NewsDtoResponse> readAllFromIndex(long[] hits, NewsSearchQuery query, Pageable pageable, FieldSelection fields) {
+        List<Long> ids = Arrays.stream(hits).boxed().toList();
+        if (!query.phrases().isEmpty() && !ids.isEmpty()) {
+            Specification<News> phrases = Specification.allOf(query.phrases().stream().map(newsTextSearch::matchesPhrase).toList());
+            Set<Long> matching = new HashSet<>(newsRepository.findIds(EntitySpecification.<News>hasIdIn(ids).and(phrases), Sort.unsorted()));
+            ids = ids.stream().filter(matching::contains).toList();
+        }
+        List<String> tags = query.tags();
+        if (!tags.isEmpty() && tagBitmapIndex.isReady()) {
+            Roaring64Bitmap tagged = tagBitmapIndex.query(TagQuery.allOf(tags));
+            ids = ids.stream().filter(tagged::contains).toList();
+        } else if (!tags.isEmpty() && !ids.isEmpty()) {
+            Set<Long> tagged = new HashSet<>(newsRepository.findIdsByAllTagNamesAmong(tags, tags.size(), ids));
+            ids = ids.stream().filter(tagged::contains).toList();
+        }
 
-        while (matcher.find()) {
-            tags.add(matcher.group(1).trim());
+        if (pageable.getSort().getOrderFor(RELEVANCE) == null && !ids.isEmpty()) {
+            Sort sort = pageable.getSort().getOrderFor(ID) == null ? pageable.getSort().and(Sort.by(ID)) : pageable.getSort();
+            ids = newsRepository.findIds(EntitySpecification.hasIdIn(ids), sort);
         }
 
-        return tags;
+        int from = (int) Math.min(pageable.getOffset(), ids.size());
+        List<Long> pageIds = ids.subList(from, Math.min(from + pageable.getPageSize(), ids.size()));
+        return new PageImpl<>(readInOrder(pageIds, fields), pageable, ids.size());
+    }
+
+    private List<NewsDtoResponse> readInOrder(List<Long> ids) {
+        return readInOrder(ids, FieldSelection.ALL);
+    }
+
+    private List<NewsDtoResponse> readInOrder(List<Long> ids, FieldSelection fields) {
+        Map<Long, NewsDtoResponse> newsById = newsDtoAssembler.readByIds(ids, fields);
+        return ids.stream()
+                .map(newsById::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Page<NewsDtoResponse> readAll(SearchingRequest searchingRequest, Pageable pageable) {
-        if (searchingRequest == null) {
-            LOGGER.info("Reading all the news");
-            return newsRepository.findAll(pageable).map(newsDtoMapper::modelToDto);
+    public CursorPageDtoResponse<NewsDtoResponse> readAllAfter(SearchingRequest searchingRequest, String after, Pageable pageable) {
+        return readAllAfter(searchingRequest, after, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDtoResponse<NewsDtoResponse> readAllAfter(SearchingRequest searchingRequest, String after, Pageable pageable,
+                                                               FieldSelection fields) {
+        fields.requireSupported(NewsDtoAssembler.FIELD_PATHS.keySet());
+        String searchValue = searchingRequest != null ? searchingRequest.getValue() : null;
+        LOGGER.info("Reading the news for {} after cursor {} with fields {}", searchValue, after, fields);
+        String[] fetchedAttributes = fields.includes(AUTHOR) ? new String[]{AUTHOR} : new String[0];
+        return KeysetPaginator.scroll(newsRepository, searchSpecification(newsQueryCache.parse(searchValue), false), after,
+                withoutRelevance(pageable), SEEK_PROPERTIES, news -> newsDtoAssembler.toDto(news, fields), fetchedAttributes);
+    }
+
+    private Pageable withoutRelevance(Pageable pageable) {
+        if (pageable.getSort().getOrderFor(RELEVANCE) == null) {
+            return pageable;
         }
+        List<Sort.Order> orders = pageable.getSort().filter(order -> !RELEVANCE.equals(order.getProperty())).toList();
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+    }
 
-        String searchValue = searchingRequest.getValue();
-        LOGGER.info("Reading all the news for {}", searchValue);
+    private Specification<News> searchSpecification(NewsSearchQuery query, boolean rankByRelevance) {
+        IdFilterBudget budget = new IdFilterBudget(MAX_ID_FILTER_SIZE);
+        if (!query.isSimple()) {
+            return toSpecification(query.expression(), budget);
+        }
+        List<Specification<News>> specs = new ArrayList<>();
+        if (rankByRelevance) {
+            specs.add(newsTextSearch.rankedBy(query.text()));
+        } else {
+            query.words().forEach(word -> specs.add(newsTextSearch.matches(word)));
+        }
+        query.phrases().forEach(phrase -> specs.add(newsTextSearch.matchesPhrase(phrase)));
 
-        Specification<News> spec = Specification.where(
-                NewsSpecification.searchByText(parseSearchGetText(searchValue))
-        );
+        List<String> searchingTags = query.tags();
 
-        List<String> searchingTags = parseSearchGetTags(searchValue);
+        if (!searchingTags.isEmpty()) {
+            specs.add(tagSpecification(searchingTags, budget));
+        }
+        return Specification.allOf(specs);
+    }
 
-        if (searchingTags != null && !searchingTags.isEmpty()) {
-            spec = spec.and(NewsSpecification.hasTags(searchingTags));
+    private Specification<News> toSpecification(NewsQuery expression, IdFilterBudget budget) {
+        if (expression instanceof NewsQuery.Text text) {
+            return newsTextSearch.matches(text.value());
+        }
+        if (expression instanceof NewsQuery.Phrase phrase) {
+            return newsTextSearch.matchesPhrase(phrase.value());
+        }
+        if (expression instanceof NewsQuery.Tag tag) {
+            return tagSpecification(List.of(tag.name()), budget);
+        }
+        if (expression instanceof NewsQuery.Author author) {
+            return NewsSpecification.hasAuthorName(author.name());
         }
+        if (expression instanceof NewsQuery.Created created) {
+            return NewsSpecification.createdBetween(
+                    created.from() != null ? created.from().atStartOfDay() : null,
+                    created.to() != null ? created.to().plusDays(1).atStartOfDay() : null);
+        }
+        if (expression instanceof NewsQuery.Not not) {
+            return Specification.not(toSpecification(not.operand(), budget));
+        }
+        if (expression instanceof NewsQuery.And and) {
+            return Specification.allOf(and.operands().stream().map(operand -> toSpecification(operand, budget)).toList());
+        }
+        NewsQuery.Or or = (NewsQuery.Or) expression;
+        return Specification.anyOf(or.operands().stream().map(operand -> toSpecification(operand, budget)).toList());
+    }
 
-        return newsRepository.findAll(spec, pageable)
-                .map(newsDtoMapper::modelToDto);
+    private Specification<News> tagSpecification(List<String> tags, IdFilterBudget budget) {
+        if (tagBitmapIndex.isReady()) {
+            Roaring64Bitmap tagged = tagBitmapIndex.query(TagQuery.allOf(tags));
+            if (budget.take(tagged.getLongCardinality())) {
+                return EntitySpecification.hasIdIn(Arrays.stream(tagged.toArray()).boxed().toList());
+            }
+        }
+        return NewsSpecification.hasTags(tags);
+    }
+
+    private static final class IdFilterBudget {
+        private long remaining;
+
+        private IdFilterBudget(long remaining) {
+            this.remaining = remaining;
+        }
+
+        private boolean take(long size) {
+            if (size > remaining) {
+                return false;
+            }
+            remaining -= size;
+            return true;
+        }
     }
 
     @Override
@@ -124,6 +335,17 @@ public class NewsServiceImpl implements NewsService {
         return newsDtoMapper.modelToDto(news);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion readVersion(@Valid Long id) {
+        List<NewsVersionRow> rows = newsRepository.findVersionRowsById(id);
+        if (rows.isEmpty()) {
+            LOGGER.error("News with id {} not found", id);
+            throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
+        }
+        return ResourceVersion.of(rows);
+    }
+
     @Override
     @Transactional
     public NewsDtoResponse create(@Valid NewsDtoRequest createRequest) {
@@ -132,13 +354,27 @@ public class NewsServiceImpl implements NewsService {
             LOGGER.error("Author with id {} not found. Unable to create news", createRequest.getAuthorId());
             throw new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), createRequest.getAuthorId()));
         }
+        if (createRequest.getTagIds() != null && !createRequest.getTagIds().isEmpty()) {
+            List<Long> tagIds = createRequest.getTagIds().stream().distinct().toList();
+            requireTags(tagIds, new HashSet<>(tagRepository.findExistingIds(tagIds)));
+        }
+        authorRepository.adjustNewsCount(createRequest.getAuthorId(), 1);
         News model = newsDtoMapper.dtoToModel(createRequest, authorRepository, tagRepository);
-        return newsDtoMapper.modelToDto(newsRepository.save(model));
+        News savedNews = newsRepository.save(model);
+        totalCountCache.evict(News.class);
+        publishSaved(savedNews);
+        return newsDtoMapper.modelToDto(savedNews);
     }
 
     @Override
     @Transactional
     public NewsDtoResponse update(@Valid Long id, @Valid NewsDtoRequest updateRequest) {
+        return update(id, updateRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public NewsDtoResponse update(@Valid Long id, @Valid NewsDtoRequest updateRequest, String ifMatch) {
         LOGGER.info("Updating news with id {}", id);
 
         News news = newsRepository.findById(id)
@@ -146,24 +382,16 @@ public class NewsServiceImpl implements NewsService {
                     LOGGER.error("News with id {} not found. Unable to update news", id);
                     return new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
 
+        moveNewsCount(news.getAuthor(), updateRequest.getAuthorId());
         Author author = authorRepository.findById(updateRequest.getAuthorId())
                 .orElseThrow(() -> {
                     LOGGER.error("Author with id {} not found. Unable to update news", updateRequest.getAuthorId());
                     return new NotFoundException(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), updateRequest.getAuthorId()));
                 });
 
-        List<Tag> tags = new ArrayList<>();
-        if (updateRequest.getTagIds() != null) {
-            for (Long tagId : updateRequest.getTagIds()) {
-                Tag tag = tagRepository.findById(tagId)
-                        .orElseThrow(() -> {
-                            LOGGER.error("Tag with id {} not found. Unable to update news", tagId);
-                            return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), tagId));
-                        });
-                tags.add(tag);
-            }
-        }
+        List<Tag> tags = findTags(updateRequest.getTagIds());
 
         news.setTitle(updateRequest.getTitle());
         news.setContent(updateRequest.getContent());
@@ -171,12 +399,19 @@ public class NewsServiceImpl implements NewsService {
         news.setTags(tags);
 
         News savedNews = newsRepository.save(news);
+        publishSaved(savedNews);
         return newsDtoMapper.modelToDto(savedNews);
     }
 
     @Override
     @Transactional
     public NewsDtoResponse patch(@Valid Long id, NewsDtoRequest patchRequest) {
+        return patch(id, patchRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public NewsDtoResponse patch(@Valid Long id, NewsDtoRequest patchRequest, String ifMatch) {
         LOGGER.info("Patching news with id {}", id);
         String title = patchRequest.getTitle();
         String content = patchRequest.getContent();
@@ -188,6 +423,7 @@ public class NewsServiceImpl implements NewsService {
                     LOGGER.error("News with id {} not found. Unable to patch news", id);
                     return new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
         if (title != null) {
             prevNews.setTitle(title);
         }
@@ -196,6 +432,7 @@ public class NewsServiceImpl implements NewsService {
         }
 
         if (authorId != null) {
+            moveNewsCount(prevNews.getAuthor(), authorId);
             Author author = authorRepository.findById(authorId)
                     .orElseThrow(() -> {
                         LOGGER.error("Author with id {} not found. Unable to patch news", authorId);
@@ -204,17 +441,11 @@ public class NewsServiceImpl implements NewsService {
             prevNews.setAuthor(author);
         }
         if (tagIds != null) {
-            List<Tag> tags = tagIds.stream()
-                    .map(tagId -> tagRepository.findById(tagId)
-                            .orElseThrow(() -> {
-                                LOGGER.error("Tag with id {} not found. Unable to patch news", tagId);
-                                return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), tagId));
-                            }))
-                    .collect(Collectors.toList());
-            prevNews.setTags(tags);
+            prevNews.setTags(findTags(tagIds));
         }
 
         News savedNews = newsRepository.save(prevNews);
+        publishSaved(savedNews);
         return newsDtoMapper.modelToDto(savedNews);
     }
 
@@ -222,23 +453,93 @@ public class NewsServiceImpl implements NewsService {
     @Transactional
     public void deleteById(@Valid Long id) {
         LOGGER.info("Deleting news with id {}", id);
-        if (!newsRepository.existsById(id)) {
+        commentRepository.deleteByNewsId(id);
+        newsRepository.deleteTagLinksByNewsId(id);
+        authorRepository.decrementNewsCountByNewsId(id);
+        if (newsRepository.deleteNewsById(id) == 0) {
             LOGGER.error("News with id {} not found. Unable to delete news", id);
             throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
         }
-        newsRepository.deleteById(id);
+        totalCountCache.evict(News.class);
+        totalCountCache.evict(Comment.class);
+        eventPublisher.publishEvent(new NewsDeletedEvent(id));
+    }
+
+    private List<Tag> findTags(List<Long> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = tagIds.stream().distinct().toList();
+        Map<Long, Tag> tagsById = tagRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Tag::getId, Function.identity()));
+        requireTags(ids, tagsById.keySet());
+        return ids.stream().map(tagsById::get).collect(Collectors.toList());
+    }
+
+    private void requireTags(List<Long> tagIds, Set<Long> existingIds) {
+        List<Long> missingIds = tagIds.stream().filter(tagId -> !existingIds.contains(tagId)).toList();
+        if (!missingIds.isEmpty()) {
+            LOGGER.error("Tags with ids {} not found", missingIds);
+            throw new NotFoundException(String.format(TAGS_DO_NOT_EXIST.getErrorMessage(), missingIds));
+        }
+    }
+
+    private void requireVersion(Long id, String ifMatch) {
+        if (ifMatch != null && !readVersion(id).matches(ifMatch)) {
+            LOGGER.error("News with id {} does not match {}", id, ifMatch);
+            throw new PreconditionFailedException(String.format(PRECONDITION_FAILED.getErrorMessage(), id));
+        }
+    }
+
+    private void moveNewsCount(Author previousAuthor, Long authorId) {
+        Long previousAuthorId = previousAuthor != null ? previousAuthor.getId() : null;
+        if (authorId.equals(previousAuthorId)) {
+            return;
+        }
+        if (previousAuthorId != null) {
+            authorRepository.adjustNewsCount(previousAuthorId, -1);
+        }
+        authorRepository.adjustNewsCount(authorId, 1);
+    }
+
+    private void publishSaved(News news) {
+        List<Long> tagIds = news.getTags() != null ? news.getTags().stream().map(Tag::getId).toList() : List.of();
+        eventPublisher.publishEvent(new NewsSavedEvent(news.getId(), news.getTitle(), news.getContent(), tagIds));
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<NewsDtoResponse> readByParams(ParametersDtoRequest parametersDtoRequest, Pageable pageable) {
         LOGGER.info("Reading news by params {}", parametersDtoRequest);
-        SearchParameters params = new SearchParameters(
-                !parametersDtoRequest.newsTitle().isEmpty() ? parametersDtoRequest.newsTitle() : null,
-                !parametersDtoRequest.newsContent().isEmpty() ? parametersDtoRequest.newsContent() : null,
-                !parametersDtoRequest.authorName().isEmpty() ? parametersDtoRequest.authorName() : null,
-                (parametersDtoRequest.tagIds() != null && !parametersDtoRequest.tagIds().isEmpty()) ? parametersDtoRequest.tagIds() : null,
-                (parametersDtoRequest.tagNames() != null && !parametersDtoRequest.tagNames().isEmpty()) ? parametersDtoRequest.tagNames() : null);
-        return newsRepository.readByParams(params, pageable).map(newsDtoMapper::modelToDto);
+        SearchParameters params = parametersDtoRequest.toSearchParameters();
+        return searchResultCache.get(toParamsQuery(params), pageable, NewsDtoResponse::getId,
+                () -> newsDtoAssembler.toDtoPage(newsRepository.findRows(NewsSpecification.byParams(params), pageable)), this::readInOrder);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDtoResponse<NewsDtoResponse> readByParamsAfter(ParametersDtoRequest parametersDtoRequest, String after, Pageable pageable) {
+        LOGGER.info("Reading news by params {} after cursor {}", parametersDtoRequest, after);
+        SearchParameters params = parametersDtoRequest.toSearchParameters();
+        return KeysetPaginator.scroll(newsRepository, NewsSpecification.byParams(params), after, pageable, SEEK_PROPERTIES, newsDtoMapper::modelToDto, AUTHOR);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<NewsDtoResponse> readByParamsSlice(ParametersDtoRequest parametersDtoRequest, Pageable pageable) {
+        LOGGER.info("Reading a slice of news by params {}", parametersDtoRequest);
+        return newsDtoAssembler.toDtoSlice(newsRepository.findRowSlice(NewsSpecification.byParams(parametersDtoRequest.toSearchParameters()), pageable));
+    }
+
+    private ParamsQuery toParamsQuery(SearchParameters params) {
+        return new ParamsQuery(
+                params.newsTitle() != null ? params.newsTitle().toLowerCase() : null,
+                params.newsContent() != null ? params.newsContent().toLowerCase() : null,
+                params.authorName() != null ? params.authorName().toLowerCase() : null,
+                params.tagIds() != null ? params.tagIds().stream().sorted().toList() : null,
+                params.tagNames() != null ? params.tagNames().stream().sorted().toList() : null);
+    }
+
+    private record ParamsQuery(String title, String content, String authorName, List<Integer> tagIds, List<String> tagNames) {
     }
 }
@@ -1,60 +1,121 @@
 package com.mjc.school.service.impl;
 
 import com.mjc.school.annotation.Valid;
+import com.mjc.school.dto.FieldSelection;
+import com.mjc.school.dto.ParametersDtoRequest;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.dto.TagBulkDtoResponse;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
+import com.mjc.school.event.TagDeletedEvent;
+import com.mjc.school.event.TagLinksChangedEvent;
+import com.mjc.school.event.TagSavedEvent;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.PreconditionFailedException;
+import com.mjc.school.exception.ValidationException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.TagDtoMapper;
+import com.mjc.school.model.SearchParameters;
 import com.mjc.school.model.Tag;
+import com.mjc.school.model.projection.TagRow;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.NewsTagBulkRepository;
 import com.mjc.school.repository.TagRepository;
 import com.mjc.school.service.TagService;
+import com.mjc.school.version.ResourceVersion;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.NEWS_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.PRECONDITION_FAILED;
 import static com.mjc.school.exception.ExceptionErrorCodes.TAG_DOES_NOT_EXIST;
+import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
 
 @Service
 @Scope(proxyMode = ScopedProxyMode.TARGET_CLASS)
 public class TagServiceImpl implements TagService {
     private static final Logger LOGGER = LoggerFactory.getLogger(TagServiceImpl.class);
     private static final List<String> fieldsToSearch = List.of("name");
+    private static final Map<String, List<String>> FIELD_PATHS = Map.of(
+            "id", List.of("id"),
+            "name", List.of("name"));
 
     private final TagRepository tagRepository;
     private final NewsRepository newsRepository;
+    private final NewsTagBulkRepository newsTagBulkRepository;
 
     private final TagDtoMapper tagDtoMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TotalCountCache totalCountCache;
 
     @Autowired
-    public TagServiceImpl(TagRepository tagRepository, NewsRepository newsRepository, TagDtoMapper tagDtoMapper) {
+    public TagServiceImpl(TagRepository tagRepository, NewsRepository newsRepository, NewsTagBulkRepository newsTagBulkRepository,
+                          TagDtoMapper tagDtoMapper, ApplicationEventPublisher eventPublisher, TotalCountCache totalCountCache) {
         this.tagRepository = tagRepository;
         this.newsRepository = newsRepository;
+        this.newsTagBulkRepository = newsTagBulkRepository;
         this.tagDtoMapper = tagDtoMapper;
+        this.eventPublisher = eventPublisher;
+        this.totalCountCache = totalCountCache;
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TagDtoResponse> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable) {
+        return readAll(searchingRequest, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<TagDtoResponse> readAll(@Valid SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
         if (searchingRequest == null) {
-            LOGGER.info("Reading all tags");
-            return tagRepository.findAll(pageable).map(tagDtoMapper::modelToDto);
+            LOGGER.info("Reading all tags with fields {}", fields);
+            Slice<TagRow> slice = fields.isAll()
+                    ? tagRepository.findRowSlice(null, pageable)
+                    : tagRepository.findRowSlice(null, pageable, fields.paths(FIELD_PATHS));
+            long total = totalCountCache.get(Tag.class, tagRepository::count);
+            return new PageImpl<>(slice.getContent(), pageable, total).map(tagDtoMapper::rowToDto);
         }
-        LOGGER.info("Reading all the tags for {}", searchingRequest.getValue());
+        LOGGER.info("Reading all the tags for {} with fields {}", searchingRequest.getValue(), fields);
         Specification<Tag> specification = EntitySpecification.searchByFields(fieldsToSearch, searchingRequest.getValue());
-        return tagRepository.findAll(specification, pageable).map(tagDtoMapper::modelToDto);
+        Page<TagRow> page = fields.isAll()
+                ? tagRepository.findRows(specification, pageable)
+                : tagRepository.findRows(specification, pageable, fields.paths(FIELD_PATHS));
+        return page.map(tagDtoMapper::rowToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TagDtoResponse> readAllSlice(@Valid SearchingRequest searchingRequest, Pageable pageable) {
+        return readAllSlice(searchingRequest, pageable, FieldSelection.ALL);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TagDtoResponse> readAllSlice(@Valid SearchingRequest searchingRequest, Pageable pageable, FieldSelection fields) {
+        LOGGER.info("Reading a slice of tags for {} with fields {}", searchingRequest != null ? searchingRequest.getValue() : null, fields);
+        Specification<Tag> specification = searchingRequest != null
+                ? EntitySpecification.searchByFields(fieldsToSearch, searchingRequest.getValue())
+                : null;
+        Slice<TagRow> slice = fields.isAll()
+                ? tagRepository.findRowSlice(specification, pageable)
+                : tagRepository.findRowSlice(specification, pageable, fields.paths(FIELD_PATHS));
+        return slice.map(tagDtoMapper::rowToDto);
     }
 
     @Override
@@ -69,30 +130,59 @@ public class TagServiceImpl implements TagService {
         return tagDtoMapper.modelToDto(tag);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ResourceVersion readVersion(@Valid Long id) {
+        return tagRepository.findVersionById(id)
+                .map(version -> ResourceVersion.of(List.of(version)))
+                .orElseThrow(() -> {
+                    LOGGER.error("Tag with id {} not found", id);
+                    return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
+                });
+    }
+
     @Override
     @Transactional
     public TagDtoResponse create(@Valid TagDtoRequest createRequest) {
         LOGGER.info("Creating a new tag {}", createRequest.toString());
         Tag tag = tagDtoMapper.dtoToModel(createRequest);
-        return tagDtoMapper.modelToDto(tagRepository.save(tag));
+        Tag savedTag = tagRepository.save(tag);
+        totalCountCache.evict(Tag.class);
+        publishSaved(savedTag);
+        return tagDtoMapper.modelToDto(savedTag);
     }
 
     @Override
     @Transactional
     public TagDtoResponse update(@Valid Long id, @Valid TagDtoRequest updateRequest) {
+        return update(id, updateRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public TagDtoResponse update(@Valid Long id, @Valid TagDtoRequest updateRequest, String ifMatch) {
         LOGGER.info("Updating a tag with id {}", id);
         Tag prevTag = tagRepository.findById(id)
                 .orElseThrow(() -> {
                     LOGGER.error("Tag with id {} not found. Unable to update tag", id);
                     return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
         prevTag.setName(updateRequest.getName());
-        return tagDtoMapper.modelToDto(tagRepository.save(prevTag));
+        Tag savedTag = tagRepository.save(prevTag);
+        publishSaved(savedTag);
+        return tagDtoMapper.modelToDto(savedTag);
     }
 
     @Override
     @Transactional
     public TagDtoResponse patch(@Valid Long id, @Valid TagDtoRequest patchRequest) {
+        return patch(id, patchRequest, null);
+    }
+
+    @Override
+    @Transactional
+    public TagDtoResponse patch(@Valid Long id, @Valid TagDtoRequest patchRequest, String ifMatch) {
         LOGGER.info("Patching a tag with id {}", id);
         String name = patchRequest.getName();
 
@@ -101,11 +191,13 @@ public class TagServiceImpl implements TagService {
                     LOGGER.error("Tag with id {} not found. Unable to patch tag", id);
                     return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
                 });
+        requireVersion(id, ifMatch);
         if (name != null) {
             prevTag.setName(name);
         }
 
         Tag savedTag = tagRepository.save(prevTag);
+        publishSaved(savedTag);
         return tagDtoMapper.modelToDto(savedTag);
     }
 
@@ -113,16 +205,83 @@ public class TagServiceImpl implements TagService {
     @Transactional
     public void deleteById(@Valid Long id) {
         LOGGER.info("Deleting a tag with id {}", id);
-        Tag tag = tagRepository.findById(id)
-                .orElseThrow(() -> {
-                    LOGGER.error("Tag with id {} not found. Unable to delete tag", id);
-                    return new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
-                });
-        tag.getNews().forEach(news -> news.getTags().remove(tag));
+        newsTagBulkRepository.deleteLinks(id);
+        if (tagRepository.deleteTagById(id) == 0) {
+            LOGGER.error("Tag with id {} not found. Unable to delete tag", id);
+            throw new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
+        }
+        totalCountCache.evict(Tag.class);
+        eventPublisher.publishEvent(new TagDeletedEvent(id));
+    }
 
-        tag.getNews().clear();
+    @Override
+    @Transactional
+    public TagBulkDtoResponse merge(@Valid Long sourceId, @Valid Long targetId) {
+        LOGGER.info("Merging tag with id {} into tag with id {}", sourceId, targetId);
+        if (sourceId.equals(targetId)) {
+            LOGGER.error("Tag with id {} cannot be merged into itself", sourceId);
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "tag cannot be merged into itself"));
+        }
+        requireExists(targetId);
+        int copied = newsTagBulkRepository.copyLinks(sourceId, targetId);
+        newsTagBulkRepository.deleteLinks(sourceId);
+        if (tagRepository.deleteTagById(sourceId) == 0) {
+            LOGGER.error("Tag with id {} not found. Unable to merge tag", sourceId);
+            throw new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), sourceId));
+        }
+        totalCountCache.evict(Tag.class);
+        eventPublisher.publishEvent(new TagDeletedEvent(sourceId));
+        eventPublisher.publishEvent(new TagLinksChangedEvent(targetId));
+        return new TagBulkDtoResponse(targetId, copied);
+    }
+
+    @Override
+    @Transactional
+    public TagBulkDtoResponse addToNews(@Valid Long id, ParametersDtoRequest parametersDtoRequest) {
+        LOGGER.info("Adding tag with id {} to news by params {}", id, parametersDtoRequest);
+        SearchParameters params = requireFilter(parametersDtoRequest);
+        requireExists(id);
+        int added = newsTagBulkRepository.addLinks(id, params);
+        eventPublisher.publishEvent(new TagLinksChangedEvent(id));
+        return new TagBulkDtoResponse(id, added);
+    }
+
+    @Override
+    @Transactional
+    public TagBulkDtoResponse removeFromNews(@Valid Long id, ParametersDtoRequest parametersDtoRequest) {
+        LOGGER.info("Removing tag with id {} from news by params {}", id, parametersDtoRequest);
+        SearchParameters params = requireFilter(parametersDtoRequest);
+        requireExists(id);
+        int removed = newsTagBulkRepository.removeLinks(id, params);
+        eventPublisher.publishEvent(new TagLinksChangedEvent(id));
+        return new TagBulkDtoResponse(id, removed);
+    }
+
+    private SearchParameters requireFilter(ParametersDtoRequest parametersDtoRequest) {
+        SearchParameters params = parametersDtoRequest != null ? parametersDtoRequest.toSearchParameters() : null;
+        if (params == null || params.isEmpty()) {
+            LOGGER.error("Bulk tag change without a news filter is not allowed");
+            throw new ValidationException(String.format(VALIDATION_EXCEPTION.getErrorMessage(), "at least one news filter is required"));
+        }
+        return params;
+    }
+
+    private void requireExists(Long id) {
+        if (!tagRepository.existsById(id)) {
+            LOGGER.error("Tag with id {} not found", id);
+            throw new NotFoundException(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id));
+        }
+    }
+
+    private void requireVersion(Long id, String ifMatch) {
+        if (ifMatch != null && !readVersion(id).matches(ifMatch)) {
+            LOGGER.error("Tag with id {} does not match {}", id, ifMatch);
+            throw new PreconditionFailedException(String.format(PRECONDITION_FAILED.getErrorMessage(), id));
+        }
+    }
 
-        tagRepository.deleteById(id);
+    private void publishSaved(Tag tag) {
+        eventPublisher.publishEvent(new TagSavedEvent(tag.getId(), tag.getName()));
     }
 
     @Override
@@ -133,6 +292,6 @@ public class TagServiceImpl implements TagService {
             LOGGER.error("News with id {} not found. Unable to read tags", newsId);
             throw new NotFoundException(String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), newsId));
         }
-        return tagRepository.readByNewsId(newsId, pageable).map(tagDtoMapper::modelToDto);
+        return tagRepository.readByNewsId(newsId, pageable).map(tagDtoMapper::rowToDto);
     }
 }
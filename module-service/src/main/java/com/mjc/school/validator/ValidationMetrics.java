@@ -0,0 +1,54 @@
+package com.mjc.school.validator;
+
+import com.mjc.school.dto.ValidationTimerDtoResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class ValidationMetrics {
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public Timer timer(String method) {
+        return timers.computeIfAbsent(method, Timer::new);
+    }
+
+    public List<ValidationTimerDtoResponse> statistics() {
+        return timers.values().stream()
+                .map(Timer::snapshot)
+                .sorted(Comparator.comparing(ValidationTimerDtoResponse::method))
+                .toList();
+    }
+
+    public static final class Timer {
+        private final String method;
+        private final LongAdder invocations = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private Timer(String method) {
+            this.method = method;
+        }
+
+        public void record(long nanos, boolean failed) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        private ValidationTimerDtoResponse snapshot() {
+            long count = invocations.sum();
+            return new ValidationTimerDtoResponse(method, count, failures.sum(),
+                    count == 0 ? 0 : totalNanos.sum() / count, maxNanos.get());
+        }
+    }
+}
@@ -8,7 +8,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -20,8 +25,16 @@ import static java.util.stream.Collectors.toMap;
 
 @Component
 public class ValidatorImpl implements Validator {
-    private final Logger LOGGER = LoggerFactory.getLogger(ValidatorImpl.class);
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidatorImpl.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
     private final Map<Class<? extends Annotation>, ConstraintChecker> checkerMap;
+    private final ClassValue<FieldConstraint[]> plans = new ClassValue<>() {
+        @Override
+        protected FieldConstraint[] computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
 
     @Autowired
     public ValidatorImpl(List<ConstraintChecker> checkers) {
@@ -34,32 +47,65 @@ public class ValidatorImpl implements Validator {
             return Collections.emptySet();
         }
 
-        HashSet<ConstraintViolation> constraintViolations = new HashSet<>();
-
-        for (Field field : o.getClass().getDeclaredFields()) {
-            validateField(constraintViolations, field, o);
+        FieldConstraint[] plan = plans.get(o.getClass());
+        Set<ConstraintViolation> constraintViolations = null;
+        for (int i = 0; i < plan.length; i++) {
+            FieldConstraint constraint = plan[i];
+            Object value = constraint.read(o);
+            if (!constraint.checker().check(value, constraint.annotation())) {
+                if (constraintViolations == null) {
+                    constraintViolations = new HashSet<>();
+                }
+                constraintViolations.add(new ConstraintViolation("Constraint %s violated for value %s"
+                        .formatted(constraint.annotation().annotationType().getSimpleName(), value)));
+            }
         }
-        return constraintViolations;
+        return constraintViolations != null ? constraintViolations : Collections.emptySet();
     }
 
-    private void validateField(Set<ConstraintViolation> constraintViolations, Field field, Object o) {
-        for (var annotation : field.getDeclaredAnnotations()) {
-            var annotationType = annotation.annotationType();
-            if (annotationType.isAnnotationPresent(Constraint.class)) {
-                try {
-                    if (field.trySetAccessible() && field.canAccess(o)) {
-                        var value = field.get(o);
-                        var checker = checkerMap.get(annotationType);
-                        if (checker != null && !checker.check(value, annotation)) {
-                            constraintViolations.add(new ConstraintViolation("Constraint %s violated for value %s".formatted(annotationType.getSimpleName(), value)));
-                        }
+    private FieldConstraint[] compile(Class<?> type) {
+        List<FieldConstraint> constraints = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers())) {
+                continue;
+            }
+            MethodHandle getter = null;
+            for (Annotation annotation : field.getDeclaredAnnotations()) {
+                Class<? extends Annotation> annotationType = annotation.annotationType();
+                ConstraintChecker checker = checkerMap.get(annotationType);
+                if (!annotationType.isAnnotationPresent(Constraint.class) || checker == null) {
+                    continue;
+                }
+                if (getter == null) {
+                    getter = getter(type, field);
+                    if (getter == null) {
+                        break;
                     }
-                } catch (IllegalAccessException e) {
-                    LOGGER.error("Cannot access field {}.{}()", field.getName(), o.getClass().getSimpleName(), e);
                 }
-
+                constraints.add(new FieldConstraint(field.getName(), getter, checker, annotation));
             }
         }
+        LOGGER.debug("Compiled {} constraints for {}", constraints.size(), type.getName());
+        return constraints.toArray(FieldConstraint[]::new);
+    }
 
+    private static MethodHandle getter(Class<?> type, Field field) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup()).unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            LOGGER.error("Cannot access field {}.{}()", field.getName(), type.getSimpleName(), e);
+            return null;
+        }
+    }
+
+    @SuppressWarnings("rawtypes")
+    private record FieldConstraint(String name, MethodHandle getter, ConstraintChecker checker, Annotation annotation) {
+        Object read(Object target) {
+            try {
+                return getter.invokeExact(target);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read field " + name, e);
+            }
+        }
     }
 }
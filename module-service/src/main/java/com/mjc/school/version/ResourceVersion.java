@@ -0,0 +1,33 @@
+package com.mjc.school.version;
+
+import org.springframework.http.ETag;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+public record ResourceVersion(String eTag) {
+    private static final int TAG_BYTES = 16;
+
+    public static ResourceVersion of(List<?> rows) {
+        return new ResourceVersion(digest(rows.toString()));
+    }
+
+    public boolean matches(String ifMatch) {
+        ETag current = new ETag(eTag, false);
+        return ETag.parse(ifMatch).stream()
+                .anyMatch(candidate -> candidate.isWildcard() || current.compare(candidate, true));
+    }
+
+    private static String digest(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, TAG_BYTES));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.mjc.school.auth;
+
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+    private static final String SECRET = "a5b79532ab8c3dfe102b8096994e5a4c75e42253bce24467d85d1553ec55ec7f";
+
+    private final JwtService jwtService = new JwtService(SECRET);
+    private final UserDetails user = new User("admin", "admin", List.of(new SimpleGrantedAuthority("ADMIN")));
+
+    @Test
+    void verify_shouldReturnSubjectAndExpiration() {
+        String token = jwtService.generateToken(user);
+
+        VerifiedToken verified = jwtService.verify(token);
+
+        assertThat(verified.username()).isEqualTo("admin");
+        assertThat(verified.isExpired(Instant.now())).isFalse();
+        assertThat(jwtService.isTokenValid(verified, user)).isTrue();
+        assertThat(jwtService.isTokenValid(verified, new User("other", "other", List.of()))).isFalse();
+    }
+
+    @Test
+    void verify_shouldRejectTokenSignedWithAnotherKey() {
+        String foreign = new JwtService("b".repeat(64)).generateToken(user);
+
+        assertThatThrownBy(() -> jwtService.verify(foreign)).isInstanceOf(JwtException.class);
+    }
+}
@@ -0,0 +1,75 @@
+package com.mjc.school.mapper;
+
+import com.mjc.school.dto.NewsDtoResponse;
+import com.mjc.school.dto.TagDtoResponse;
+import com.mjc.school.model.projection.NewsRow;
+import com.mjc.school.model.projection.NewsTagRow;
+import com.mjc.school.repository.NewsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsDtoAssemblerTest {
+    private static final LocalDateTime DATE = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    @Mock
+    private NewsRepository newsRepository;
+    @Spy
+    private NewsDtoMapper newsDtoMapper = new NewsDtoMapperImpl();
+
+    @InjectMocks
+    private NewsDtoAssembler newsDtoAssembler;
+
+    @Test
+    void toDtos_shouldLoadTagsForAllRowsInOneQuery() {
+        List<NewsRow> rows = List.of(row(1L, 10L), row(2L, 10L), row(3L, 11L));
+        when(newsRepository.findTagRowsByNewsIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new NewsTagRow(1L, 1L, "name1"),
+                new NewsTagRow(1L, 2L, "name2"),
+                new NewsTagRow(3L, 2L, "name2")));
+
+        List<NewsDtoResponse> result = newsDtoAssembler.toDtos(rows);
+
+        assertEquals(3, result.size());
+        assertEquals(List.of(new TagDtoResponse(1L, "name1"), new TagDtoResponse(2L, "name2")), result.get(0).getTagDtoResponseList());
+        assertTrue(result.get(1).getTagDtoResponseList().isEmpty());
+        assertEquals(11L, result.get(2).getAuthorDtoResponse().getId());
+        verify(newsRepository, times(1)).findTagRowsByNewsIds(any());
+    }
+
+    @Test
+    void toDtos_shouldNotQueryTags_whenRowsAreEmpty() {
+        assertTrue(newsDtoAssembler.toDtos(List.of()).isEmpty());
+        verifyNoInteractions(newsRepository);
+    }
+
+    @Test
+    void readByAuthorIds_shouldGroupNewsByAuthor() {
+        List<NewsRow> rows = List.of(row(1L, 10L), row(2L, 11L), row(3L, 10L));
+        when(newsRepository.findRowsByAuthorIds(List.of(10L, 11L))).thenReturn(rows);
+        when(newsRepository.findTagRowsByNewsIds(List.of(1L, 2L, 3L))).thenReturn(List.of());
+
+        Map<Long, List<NewsDtoResponse>> result = newsDtoAssembler.readByAuthorIds(List.of(10L, 11L));
+
+        assertEquals(List.of(1L, 3L), result.get(10L).stream().map(NewsDtoResponse::getId).toList());
+        assertEquals(List.of(2L), result.get(11L).stream().map(NewsDtoResponse::getId).toList());
+    }
+
+    private static NewsRow row(Long id, Long authorId) {
+        return new NewsRow(id, "title" + id, "content" + id, "content" + id, DATE, DATE, 0L, authorId, "author" + authorId, DATE, DATE, 0L);
+    }
+}
@@ -0,0 +1,74 @@
+package com.mjc.school.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    void search_shouldRankMoreRelevantDocumentFirst() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, "Spring release notes");
+        index.add(2L, "Spring spring spring boot");
+        index.add(3L, "Winter weather");
+
+        assertThat(index.search("spring")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void search_shouldRequireAllTermsAndMatchPrefixes() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, "Database performance tuning");
+        index.add(2L, "Database migration");
+
+        assertThat(index.search("data perf")).containsExactly(1L);
+        assertThat(index.search("missing")).isEmpty();
+    }
+
+    @Test
+    void add_shouldReplaceExistingDocument() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, "old title");
+        index.add(1L, "new title");
+
+        assertThat(index.search("old")).isEmpty();
+        assertThat(index.search("new")).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove_shouldDropDocumentFromResults() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, "first news");
+        index.add(2L, "second news");
+        index.remove(1L);
+
+        assertThat(index.search("news")).containsExactly(2L);
+        assertThat(index.contains(1L)).isFalse();
+    }
+
+    @Test
+    void readFrom_shouldRestoreWrittenIndex() throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1L, "first news");
+        index.add(2L, "second news");
+        index.add(3L, "third news");
+        index.remove(2L);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.writeTo(out);
+        }
+        InvertedIndex restored = InvertedIndex.readFrom(ByteBuffer.wrap(bytes.toByteArray()));
+
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(restored.search("news")).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(restored.search("third")).containsExactly(3L);
+    }
+}
@@ -0,0 +1,111 @@
+package com.mjc.school.search;
+
+import com.mjc.school.exception.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NewsQueryParserTest {
+
+    @Test
+    void parse_shouldKeepLegacyTextAndTagSyntaxSimple() {
+        NewsSearchQuery query = NewsSearchQuery.of(NewsQueryParser.parse("Spring Boot #(java) #(web dev)"));
+
+        assertThat(query.isSimple()).isTrue();
+        assertThat(query.text()).isEqualTo("spring boot");
+        assertThat(query.tags()).containsExactly("java", "web dev");
+    }
+
+    @Test
+    void parse_shouldKeepWordsAndPhrasesApart() {
+        NewsSearchQuery query = NewsSearchQuery.of(NewsQueryParser.parse("spring \"Data JPA\" boot"));
+
+        assertThat(query.isSimple()).isTrue();
+        assertThat(query.words()).containsExactly("spring", "boot");
+        assertThat(query.phrases()).containsExactly("data jpa");
+        assertThat(query.text()).isEqualTo("spring boot data jpa");
+    }
+
+    @Test
+    void parse_shouldBindAndTighterThanOr() {
+        NewsQuery query = NewsQueryParser.parse("spring AND boot OR java");
+
+        assertThat(query).isEqualTo(new NewsQuery.Or(List.of(
+                new NewsQuery.And(List.of(new NewsQuery.Text("spring"), new NewsQuery.Text("boot"))),
+                new NewsQuery.Text("java"))));
+    }
+
+    @Test
+    void parse_shouldSupportFieldsPhrasesNegationAndGroups() {
+        NewsQuery query = NewsQueryParser.parse("\"Release Notes\" (tag:java OR tag:kotlin) NOT author:\"John Doe\" -beta");
+
+        assertThat(query).isEqualTo(new NewsQuery.And(List.of(
+                new NewsQuery.Phrase("release notes"),
+                new NewsQuery.Or(List.of(new NewsQuery.Tag("java"), new NewsQuery.Tag("kotlin"))),
+                new NewsQuery.Not(new NewsQuery.Author("john doe")),
+                new NewsQuery.Not(new NewsQuery.Text("beta")))));
+        assertThat(NewsSearchQuery.of(query).isSimple()).isFalse();
+    }
+
+    @Test
+    void parse_shouldReadDateRanges() {
+        assertThat(NewsQueryParser.parse("created:2024-01-01..2024-01-31"))
+                .isEqualTo(new NewsQuery.Created(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31)));
+        assertThat(NewsQueryParser.parse("created:..2024-01-31"))
+                .isEqualTo(new NewsQuery.Created(null, LocalDate.of(2024, 1, 31)));
+        assertThat(NewsQueryParser.parse("created:2024-01-01"))
+                .isEqualTo(new NewsQuery.Created(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1)));
+    }
+
+    @Test
+    void parse_shouldTreatUnknownFieldsAsText() {
+        assertThat(NewsQueryParser.parse("http://example.com")).isEqualTo(new NewsQuery.Text("http://example.com"));
+    }
+
+    @Test
+    void parse_shouldRejectMalformedQueries() {
+        assertThatThrownBy(() -> NewsQueryParser.parse("(spring")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> NewsQueryParser.parse("spring)")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> NewsQueryParser.parse("spring OR")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> NewsQueryParser.parse("\"open phrase")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> NewsQueryParser.parse("created:yesterday")).isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> NewsQueryParser.parse("(".repeat(100) + "spring" + ")".repeat(100)))
+                .hasMessageContaining("nested too deeply");
+    }
+
+    @Test
+    void parse_shouldTreatOnlyUpperCaseKeywordsAndLeadingDashAsOperators() {
+        assertThat(NewsQueryParser.parse("cats and dogs or not-birds")).isEqualTo(new NewsQuery.And(List.of(
+                new NewsQuery.Text("cats"), new NewsQuery.Text("and"), new NewsQuery.Text("dogs"),
+                new NewsQuery.Text("or"), new NewsQuery.Text("not-birds"))));
+        assertThat(NewsQueryParser.parse("cats NOT dogs")).isEqualTo(new NewsQuery.And(List.of(
+                new NewsQuery.Text("cats"), new NewsQuery.Not(new NewsQuery.Text("dogs")))));
+        assertThat(NewsQueryParser.parse("-dogs")).isEqualTo(new NewsQuery.Not(new NewsQuery.Text("dogs")));
+        assertThat(NewsQueryParser.parse("a - b")).isEqualTo(new NewsQuery.And(List.of(
+                new NewsQuery.Text("a"), new NewsQuery.Text("-"), new NewsQuery.Text("b"))));
+    }
+
+    @Test
+    void parseLiteral_shouldReadWordsAndLegacyTagsOnly() {
+        assertThat(NewsQueryParser.parseLiteral("\"Open (phrase #(java) OR")).isEqualTo(new NewsQuery.And(List.of(
+                new NewsQuery.Text("\"open"), new NewsQuery.Text("(phrase"), new NewsQuery.Text("or"),
+                new NewsQuery.Tag("java"))));
+        assertThat(NewsQueryParser.parseLiteral("#( )")).isNull();
+    }
+
+    @Test
+    void queryCache_shouldFallBackToLiteralText_whenQueryDoesNotParse() {
+        NewsQueryCache cache = new NewsQueryCache(10);
+
+        NewsSearchQuery query = cache.parse("spring OR");
+
+        assertThat(query.isSimple()).isTrue();
+        assertThat(query.words()).containsExactly("spring", "or");
+        assertThat(cache.parse("(spring #(java)").tags()).containsExactly("java");
+        assertThat(cache.parse("created:yesterday").words()).containsExactly("created:yesterday");
+    }
+}
@@ -0,0 +1,69 @@
+package com.mjc.school.search;
+
+import com.mjc.school.dto.SearchCacheDtoResponse;
+import com.mjc.school.event.TagDeletedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SearchResultCacheTest {
+    private final SearchResultCache cache = new SearchResultCache(1000, Duration.ofMinutes(1));
+    private final AtomicInteger searches = new AtomicInteger();
+    private final Pageable pageable = PageRequest.of(0, 2);
+
+    private final Supplier<Page<Long>> search = () -> {
+        searches.incrementAndGet();
+        return new PageImpl<>(List.of(3L, 1L), pageable, 5);
+    };
+    private final Function<List<Long>, List<Long>> loader = ids -> ids;
+
+    @Test
+    void get_shouldReturnCachedIdsInOrder_whenQueryRepeats() {
+        cache.get("query", pageable, Function.identity(), search, loader);
+        Page<Long> result = cache.get("query", pageable, Function.identity(), search, loader);
+
+        assertEquals(1, searches.get());
+        assertEquals(List.of(3L, 1L), result.getContent());
+        assertEquals(5, result.getTotalElements());
+    }
+
+    @Test
+    void get_shouldSearchAgain_whenPageDiffers() {
+        cache.get("query", pageable, Function.identity(), search, loader);
+        cache.get("query", pageable.next(), Function.identity(), search, loader);
+
+        assertEquals(2, searches.get());
+    }
+
+    @Test
+    void get_shouldSearchAgain_afterWriteEvent() {
+        cache.get("query", pageable, Function.identity(), search, loader);
+        cache.onTagDeleted(new TagDeletedEvent(1L));
+        cache.get("query", pageable, Function.identity(), search, loader);
+
+        assertEquals(2, searches.get());
+    }
+
+    @Test
+    void statistics_shouldCountHitsAndMisses() {
+        cache.get("query", pageable, Function.identity(), search, loader);
+        cache.get("query", pageable, Function.identity(), search, loader);
+        cache.invalidate();
+
+        SearchCacheDtoResponse statistics = cache.statistics();
+
+        assertEquals(1, statistics.hits());
+        assertEquals(1, statistics.misses());
+        assertEquals(1, statistics.generation());
+    }
+}
@@ -0,0 +1,63 @@
+package com.mjc.school.search;
+
+import com.mjc.school.event.NewsDeletedEvent;
+import com.mjc.school.event.NewsSavedEvent;
+import com.mjc.school.event.TagDeletedEvent;
+import com.mjc.school.model.NewsTagPair;
+import com.mjc.school.model.Tag;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TagBitmapIndexTest {
+    private final NewsRepository newsRepository = mock(NewsRepository.class);
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final TagBitmapIndex index = new TagBitmapIndex(newsRepository, tagRepository, true);
+
+    @BeforeEach
+    void setUp() {
+        when(tagRepository.findAll()).thenReturn(List.of(tag(1L, "java"), tag(2L, "kotlin")));
+        when(newsRepository.findAllIds()).thenReturn(List.of(10L, 11L));
+        when(newsRepository.findAllNewsTagPairs()).thenReturn(List.of(
+                new NewsTagPair(10L, 1L), new NewsTagPair(11L, 1L), new NewsTagPair(11L, 2L)));
+        index.rebuild();
+    }
+
+    @Test
+    void onNewsSaved_shouldMoveNewsToItsNewTags() {
+        index.onNewsSaved(new NewsSavedEvent(11L, "title", "content", List.of(2L)));
+
+        assertThat(index.query(TagQuery.allOf(List.of("java"))).toArray()).containsExactly(10L);
+        assertThat(index.query(TagQuery.allOf(List.of("kotlin"))).toArray()).containsExactly(11L);
+    }
+
+    @Test
+    void onNewsDeleted_shouldRemoveNewsFromEveryTag() {
+        index.onNewsDeleted(new NewsDeletedEvent(11L));
+
+        assertThat(index.query(TagQuery.allOf(List.of("java"))).toArray()).containsExactly(10L);
+        assertThat(index.query(TagQuery.allOf(List.of("kotlin"))).toArray()).isEmpty();
+    }
+
+    @Test
+    void onNewsSaved_shouldNotKeepLinksOfDeletedTag() {
+        index.onTagDeleted(new TagDeletedEvent(1L));
+        index.onNewsSaved(new NewsSavedEvent(10L, "title", "content", List.of(2L)));
+
+        assertThat(index.query(TagQuery.allOf(List.of("kotlin"))).toArray()).containsExactly(10L, 11L);
+        assertThat(index.query(TagQuery.allOf(List.of("java"))).toArray()).isEmpty();
+    }
+
+    private static Tag tag(Long id, String name) {
+        Tag tag = new Tag(name);
+        tag.setId(id);
+        return tag;
+    }
+}
@@ -2,26 +2,40 @@ package com.mjc.school.service.impl;
 
 import com.mjc.school.dto.AuthorDtoRequest;
 import com.mjc.school.dto.AuthorDtoResponseWithNews;
+import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.event.AuthorSavedEvent;
+import com.mjc.school.event.NewsDeletedEvent;
 import com.mjc.school.exception.NotFoundException;
 import com.mjc.school.mapper.AuthorDtoMapper;
+import com.mjc.school.mapper.NewsDtoAssembler;
 import com.mjc.school.model.Author;
+import com.mjc.school.model.projection.AuthorRow;
+import com.mjc.school.model.projection.AuthorVersionRow;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.version.ResourceVersion;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.AUTHOR_DOES_NOT_EXIST;
@@ -37,29 +51,61 @@ class AuthorServiceImplTest {
     @Mock
     private AuthorRepository authorRepository;
     @Mock
+    private NewsRepository newsRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
     private AuthorDtoMapper authorDtoMapper;
+    @Mock
+    private NewsDtoAssembler newsDtoAssembler;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TotalCountCache totalCountCache;
 
     @InjectMocks
     private AuthorServiceImpl authorService;
 
+    @Test
+    void readVersion_shouldChangeETag_whenTagOfAuthorNewsChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime newsUpdate = now.plusMinutes(1);
+        when(authorRepository.findVersionRowById(1L))
+                .thenReturn(Optional.of(new AuthorVersionRow(0, 1, now, 1, 5, 2, 0, newsUpdate, 1, 3, 0)))
+                .thenReturn(Optional.of(new AuthorVersionRow(0, 1, now, 1, 5, 2, 0, newsUpdate, 1, 3, 1)));
+
+        ResourceVersion before = authorService.readVersion(1L);
+        ResourceVersion after = authorService.readVersion(1L);
+
+        assertNotEquals(before.eTag(), after.eTag());
+        verify(authorRepository, never()).findById(any());
+    }
+
+    @Test
+    void readVersion_shouldThrowNotFoundException_whenAuthorDoesNotExist() {
+        when(authorRepository.findVersionRowById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> authorService.readVersion(1L));
+    }
+
     @Test
     void readAll_shouldReturnAllAuthors_whenSearchingRequestIsNull() {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
         LocalDateTime date = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
-        Author author = new Author("Name", date, date, new ArrayList<>());
-        author.setId(1L);
-        List<Author> authors = List.of(author);
-        Page<Author> page = new PageImpl<>(authors);
+        AuthorRow author = new AuthorRow(1L, "Name", date, date, 0L);
+        List<AuthorRow> authors = List.of(author);
         AuthorDtoResponseWithNews dtoResponse = new AuthorDtoResponseWithNews(
-                author.getId(),
-                author.getName(),
-                author.getCreateDate(),
-                author.getLastUpdateDate(),
-                null);
+                author.id(),
+                author.name(),
+                author.createDate(),
+                author.lastUpdateDate(),
+                List.of());
 
-        when(authorRepository.findAll(pageable)).thenReturn(page);
-        when(authorDtoMapper.modelToDtoWithNews(authors.get(0))).thenReturn(dtoResponse);
+        when(authorRepository.findRowSlice(null, pageable)).thenReturn(new SliceImpl<>(authors, pageable, false));
+        when(totalCountCache.get(eq(Author.class), any())).thenReturn(1L);
+        when(newsDtoAssembler.readByAuthorIds(List.of(1L))).thenReturn(Map.of());
+        when(authorDtoMapper.rowToDtoWithNews(author, List.of())).thenReturn(dtoResponse);
 
         // When
         Page<AuthorDtoResponseWithNews> result = authorService.readAll(null, pageable);
@@ -67,9 +113,11 @@ class AuthorServiceImplTest {
         // Then
         assertEquals(1, result.getContent().size());
         assertEquals("Name", result.getContent().get(0).getName());
+        assertEquals(1, result.getTotalElements());
 
-        verify(authorRepository).findAll(pageable);
-        verify(authorDtoMapper).modelToDtoWithNews(authors.get(0));
+        verify(authorRepository).findRowSlice(null, pageable);
+        verify(newsDtoAssembler).readByAuthorIds(List.of(1L));
+        verify(authorDtoMapper).rowToDtoWithNews(author, List.of());
     }
 
     @Test
@@ -78,22 +126,23 @@ class AuthorServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10);
         SearchingRequest request = new SearchingRequest("name:Name");
         LocalDateTime date = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
-        Author author = new Author("Name", date, date, new ArrayList<>());
-        author.setId(1L);
-        List<Author> authors = List.of(author);
-        Page<Author> page = new PageImpl<>(authors);
+        AuthorRow author = new AuthorRow(1L, "Name", date, date, 0L);
+        List<AuthorRow> authors = List.of(author);
+        Page<AuthorRow> page = new PageImpl<>(authors);
+        NewsDtoResponse news = new NewsDtoResponse();
         AuthorDtoResponseWithNews dtoResponse = new AuthorDtoResponseWithNews(
-                author.getId(),
-                author.getName(),
-                author.getCreateDate(),
-                author.getLastUpdateDate(),
-                null);
+                author.id(),
+                author.name(),
+                author.createDate(),
+                author.lastUpdateDate(),
+                List.of(news));
 
         Specification<Author> spec = (root, query, cb) ->
                 cb.equal(root.get("name"), "Name");
 
-        when(authorRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(page);
-        when(authorDtoMapper.modelToDtoWithNews(authors.get(0))).thenReturn(dtoResponse);
+        when(authorRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(page);
+        when(newsDtoAssembler.readByAuthorIds(List.of(1L))).thenReturn(Map.of(1L, List.of(news)));
+        when(authorDtoMapper.rowToDtoWithNews(author, List.of(news))).thenReturn(dtoResponse);
 
         // When
         Page<AuthorDtoResponseWithNews> result = authorService.readAll(request, pageable);
@@ -102,8 +151,8 @@ class AuthorServiceImplTest {
         assertEquals(1, result.getContent().size());
         assertEquals("Name", result.getContent().get(0).getName());
 
-        verify(authorRepository).findAll(any(Specification.class), eq(pageable));
-        verify(authorDtoMapper).modelToDtoWithNews(authors.get(0));
+        verify(authorRepository).findRows(any(Specification.class), eq(pageable));
+        verify(authorDtoMapper).rowToDtoWithNews(author, List.of(news));
     }
 
     @Test
@@ -173,6 +222,7 @@ class AuthorServiceImplTest {
         verify(authorDtoMapper).dtoToModel(request);
         verify(authorRepository).save(model);
         verify(authorDtoMapper).modelToDtoWithNews(saved);
+        verify(eventPublisher).publishEvent(new AuthorSavedEvent(1L, "Updated name"));
     }
 
     @Test
@@ -199,6 +249,7 @@ class AuthorServiceImplTest {
         verify(authorRepository).findById(1L);
         verify(authorRepository).save(model);
         verify(authorDtoMapper).modelToDtoWithNews(saved);
+        verify(eventPublisher).publishEvent(new AuthorSavedEvent(1L, "Updated name"));
     }
 
     @Test
@@ -301,27 +352,34 @@ class AuthorServiceImplTest {
     void deleteById_shouldDelete_whenAuthorExists() {
         Long id = 1L;
 
-        when(authorRepository.existsById(id)).thenReturn(true);
+        when(authorRepository.readNewsIdsById(id)).thenReturn(List.of(3L, 4L));
+        when(authorRepository.deleteAuthorById(id)).thenReturn(1);
 
         authorService.deleteById(id);
 
-        verify(authorRepository).existsById(id);
-        verify(authorRepository).deleteById(id);
+        InOrder inOrder = inOrder(commentRepository, newsRepository, authorRepository);
+        inOrder.verify(commentRepository).deleteByAuthorId(id);
+        inOrder.verify(newsRepository).deleteTagLinksByAuthorId(id);
+        inOrder.verify(newsRepository).deleteByAuthorId(id);
+        inOrder.verify(authorRepository).deleteAuthorById(id);
+        verify(eventPublisher).publishEvent(new NewsDeletedEvent(3L));
+        verify(eventPublisher).publishEvent(new NewsDeletedEvent(4L));
+        verify(authorRepository, never()).existsById(any());
     }
 
     @Test
     void deleteById_shouldThrowNotFound_whenAuthorDoesNotExist() {
         Long id = 99L;
 
-        when(authorRepository.existsById(id)).thenReturn(false);
+        when(authorRepository.readNewsIdsById(id)).thenReturn(List.of());
+        when(authorRepository.deleteAuthorById(id)).thenReturn(0);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> authorService.deleteById(id));
 
         assertEquals(String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), id), exception.getMessage());
 
-        verify(authorRepository).existsById(id);
-        verify(authorRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher, totalCountCache);
     }
 
     @Test
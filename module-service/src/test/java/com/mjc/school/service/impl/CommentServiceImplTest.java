@@ -7,9 +7,12 @@ import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.exception.NotFoundException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.CommentDtoMapper;
+import com.mjc.school.mapper.NewsDtoAssembler;
 import com.mjc.school.mapper.NewsDtoMapper;
 import com.mjc.school.model.Comment;
 import com.mjc.school.model.News;
+import com.mjc.school.model.projection.CommentRow;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import org.junit.jupiter.api.Test;
@@ -21,11 +24,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.COMMENT_DOES_NOT_EXIST;
@@ -47,6 +52,10 @@ class CommentServiceImplTest {
     private CommentDtoMapper commentDtoMapper;
     @Mock
     private NewsDtoMapper newsDtoMapper;
+    @Mock
+    private NewsDtoAssembler newsDtoAssembler;
+    @Mock
+    private TotalCountCache totalCountCache;
 
     @InjectMocks
     private CommentServiceImpl commentService;
@@ -54,21 +63,24 @@ class CommentServiceImplTest {
     @Test
     void readAll_shouldReturnAllComments_whenSearchingRequestIsNull() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<Comment> comments = List.of(new Comment(), new Comment());
-        comments.get(0).setId(1L);
-        comments.get(1).setId(2L);
-        Page<Comment> commentPage = new PageImpl<>(comments, pageable, comments.size());
-
-        CommentDtoResponse dtoResponse = new CommentDtoResponse();
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<CommentRow> comments = List.of(
+                new CommentRow(1L, "content1", dateTime, dateTime, 1L),
+                new CommentRow(2L, "content2", dateTime, dateTime, 1L));
+        NewsDtoResponse news = new NewsDtoResponse();
 
-        when(commentRepository.findAll(pageable)).thenReturn(commentPage);
-        when(commentDtoMapper.modelToDto(comments.get(0), newsDtoMapper)).thenReturn(dtoResponse);
+        when(commentRepository.findRowSlice(null, pageable)).thenReturn(new SliceImpl<>(comments, pageable, false));
+        when(totalCountCache.get(eq(Comment.class), any())).thenReturn((long) comments.size());
+        when(newsDtoAssembler.readByIds(List.of(1L))).thenReturn(Map.of(1L, news));
+        when(commentDtoMapper.rowToDto(any(CommentRow.class), eq(news))).thenAnswer(invocation -> new CommentDtoResponse());
 
         Page<CommentDtoResponse> result = commentService.readAll(null, pageable);
 
         assertEquals(comments.size(), result.getContent().size());
-        verify(commentRepository).findAll(pageable);
-        verify(commentDtoMapper, times(comments.size())).modelToDto(any(Comment.class), any());
+        assertEquals(comments.size(), result.getTotalElements());
+        verify(commentRepository).findRowSlice(null, pageable);
+        verify(newsDtoAssembler).readByIds(List.of(1L));
+        verify(commentDtoMapper, times(comments.size())).rowToDto(any(CommentRow.class), eq(news));
     }
 
     @Test
@@ -77,17 +89,21 @@ class CommentServiceImplTest {
         SearchingRequest searchingRequest = new SearchingRequest("John");
         Specification<Comment> specification = EntitySpecification.searchByFields(List.of("content"), searchingRequest.getValue());
 
-        List<Comment> comments = List.of(new Comment(), new Comment());
-        Page<Comment> commentPage = new PageImpl<>(comments, pageable, comments.size());
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<CommentRow> comments = List.of(
+                new CommentRow(1L, "John1", dateTime, dateTime, 1L),
+                new CommentRow(2L, "John2", dateTime, dateTime, 2L));
+        Page<CommentRow> commentPage = new PageImpl<>(comments, pageable, comments.size());
 
-        when(commentRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(commentPage);
-        when(commentDtoMapper.modelToDto(any(Comment.class), any())).thenAnswer(invocation -> new CommentDtoResponse());
+        when(commentRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(commentPage);
+        when(newsDtoAssembler.readByIds(List.of(1L, 2L))).thenReturn(Map.of());
+        when(commentDtoMapper.rowToDto(any(CommentRow.class), any())).thenAnswer(invocation -> new CommentDtoResponse());
 
         Page<CommentDtoResponse> result = commentService.readAll(searchingRequest, pageable);
 
         assertEquals(comments.size(), result.getContent().size());
-        verify(commentRepository).findAll(any(Specification.class), eq(pageable));
-        verify(commentDtoMapper, times(comments.size())).modelToDto(any(Comment.class), any());
+        verify(commentRepository).findRows(any(Specification.class), eq(pageable));
+        verify(commentDtoMapper, times(comments.size())).rowToDto(any(CommentRow.class), any());
     }
 
     @Test
@@ -142,6 +158,7 @@ class CommentServiceImplTest {
 
         assertEquals(expectedDto, actualDto);
         verify(newsRepository).existsById(id);
+        verify(newsRepository).adjustCommentCount(id, 1);
         verify(commentDtoMapper).dtoToModel(createRequest, newsRepository);
         verify(commentRepository).save(model);
         verify(commentDtoMapper).modelToDto(savedComment, newsDtoMapper);
@@ -282,27 +299,28 @@ class CommentServiceImplTest {
     void deleteById_shouldDelete_whenAuthorExists() {
         Long id = 1L;
 
-        when(commentRepository.existsById(id)).thenReturn(true);
+        when(commentRepository.deleteCommentById(id)).thenReturn(1);
 
         commentService.deleteById(id);
 
-        verify(commentRepository).existsById(id);
-        verify(commentRepository).deleteById(id);
+        verify(newsRepository).decrementCommentCountByCommentId(id);
+        verify(commentRepository).deleteCommentById(id);
+        verify(commentRepository, never()).existsById(any());
     }
 
     @Test
     void deleteById_shouldThrowNotFound_whenAuthorDoesNotExist() {
         Long id = 99L;
 
-        when(commentRepository.existsById(id)).thenReturn(false);
+        when(commentRepository.deleteCommentById(id)).thenReturn(0);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> commentService.deleteById(id));
 
         assertEquals(String.format(COMMENT_DOES_NOT_EXIST.getErrorMessage(), id), exception.getMessage());
 
-        verify(commentRepository).existsById(id);
         verify(commentRepository, never()).deleteById(any());
+        verify(totalCountCache, never()).evict(any());
     }
 
     @Test
@@ -311,14 +329,15 @@ class CommentServiceImplTest {
         Long newsId = 1L;
         LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         Pageable pageable = PageRequest.of(0, 10);
-        Comment comment = new Comment("Content", new News(), dateTime, dateTime);
-        comment.getNews().setId(newsId);
-        CommentDtoResponse dtoResponse = new CommentDtoResponse(1L, "Content", null, comment.getCreateDate(), comment.getLastUpdateDate());
-        Page<Comment> commentPage = new PageImpl<>(List.of(comment));
+        CommentRow comment = new CommentRow(1L, "Content", dateTime, dateTime, newsId);
+        NewsDtoResponse news = new NewsDtoResponse();
+        CommentDtoResponse dtoResponse = new CommentDtoResponse(1L, "Content", news, comment.createDate(), comment.lastUpdateDate());
+        Page<CommentRow> commentPage = new PageImpl<>(List.of(comment));
 
         when(newsRepository.existsById(newsId)).thenReturn(true);
-        when(commentRepository.readByNewsId(newsId, pageable)).thenReturn(commentPage);
-        when(commentDtoMapper.modelToDto(comment, newsDtoMapper)).thenReturn(dtoResponse);
+        when(commentRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(commentPage);
+        when(newsDtoAssembler.readByIds(List.of(newsId))).thenReturn(Map.of(newsId, news));
+        when(commentDtoMapper.rowToDto(comment, news)).thenReturn(dtoResponse);
 
         // When
         Page<CommentDtoResponse> result = commentService.readByNewsId(newsId, pageable);
@@ -327,8 +346,8 @@ class CommentServiceImplTest {
         assertEquals(1, result.getTotalElements());
         assertEquals(dtoResponse, result.getContent().get(0));
         verify(newsRepository).existsById(newsId);
-        verify(commentRepository).readByNewsId(newsId, pageable);
-        verify(commentDtoMapper).modelToDto(comment, newsDtoMapper);
+        verify(commentRepository).findRows(any(Specification.class), eq(pageable));
+        verify(commentDtoMapper).rowToDto(comment, news);
     }
 
     @Test
@@ -0,0 +1,127 @@
+package com.mjc.school.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mjc.school.event.NewsSavedEvent;
+import com.mjc.school.event.TagSavedEvent;
+import com.mjc.school.model.News;
+import com.mjc.school.model.NewsInsertRow;
+import com.mjc.school.model.NewsTagPair;
+import com.mjc.school.pagination.TotalCountCache;
+import com.mjc.school.repository.NewsBatchRepository;
+import com.mjc.school.validator.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.mjc.school.exception.ExceptionErrorCodes.IMPORT_FAILED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NewsImportServiceImplTest {
+    @Mock
+    private NewsBatchRepository newsBatchRepository;
+    @Mock
+    private Validator validator;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TotalCountCache totalCountCache;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NewsImportServiceImpl newsImportService;
+
+    @BeforeEach
+    void setUp() {
+        newsImportService = new NewsImportServiceImpl(newsBatchRepository, validator, new ObjectMapper(),
+                eventPublisher, totalCountCache, transactionManager, 2);
+    }
+
+    @Test
+    void importNews_shouldInsertValidLinesInBatchesAndReportEveryLine() {
+        String input = String.join("\n",
+                "{\"title\":\"first news\",\"content\":\"first content\",\"authorName\":\"Author1\",\"tagNames\":[\"known\",\"fresh\"]}",
+                "{\"title\":\"second news\",\"content\":\"second content\",\"authorName\":\"Nobody\"}",
+                "{broken");
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        when(newsBatchRepository.findAuthorIdsByNames(any())).thenReturn(Map.of("Author1", 1L));
+        when(newsBatchRepository.findExistingTitles(any())).thenReturn(Set.of());
+        when(newsBatchRepository.findTagIdsByNames(any())).thenReturn(new HashMap<>(Map.of("known", 3L)));
+        when(newsBatchRepository.insertTags(List.of("fresh"))).thenReturn(Map.of("fresh", 7L));
+        when(newsBatchRepository.insertNews(eq(List.of(new NewsInsertRow("first news", "first content", 1L))), any()))
+                .thenReturn(List.of(10L));
+
+        newsImportService.importNews(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(3, lines.size());
+        assertTrue(lines.get(0).contains("\"status\":\"CREATED\"") && lines.get(0).contains("\"id\":10"));
+        assertTrue(lines.get(1).contains("\"status\":\"FAILED\"") && lines.get(1).contains("Nobody"));
+        assertTrue(lines.get(2).contains("\"line\":3") && lines.get(2).contains("\"status\":\"FAILED\""));
+        verify(newsBatchRepository).insertNewsTags(List.of(new NewsTagPair(10L, 3L), new NewsTagPair(10L, 7L)));
+        verify(newsBatchRepository).incrementAuthorNewsCounts(Map.of(1L, 1L));
+        verify(eventPublisher).publishEvent(new TagSavedEvent(7L, "fresh"));
+        verify(eventPublisher).publishEvent(new NewsSavedEvent(10L, "first news", "first content", List.of(3L, 7L)));
+        verify(totalCountCache).evict(News.class);
+        verify(newsBatchRepository).findAuthorIdsByNames(Set.of("Author1", "Nobody"));
+    }
+
+    @Test
+    void importNews_shouldRetryBatchWithReResolvedTags_whenTagWasInsertedConcurrently() {
+        String input = "{\"title\":\"first news\",\"content\":\"first content\",\"authorName\":\"Author1\",\"tagNames\":[\"fresh\"]}";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        when(newsBatchRepository.findAuthorIdsByNames(any())).thenReturn(Map.of("Author1", 1L));
+        when(newsBatchRepository.findExistingTitles(any())).thenReturn(Set.of());
+        when(newsBatchRepository.findTagIdsByNames(any()))
+                .thenReturn(new HashMap<>(), new HashMap<>(Map.of("fresh", 7L)));
+        when(newsBatchRepository.insertTags(List.of("fresh")))
+                .thenThrow(new DuplicateKeyException("duplicate key value violates unique constraint \"tags_name_key\""));
+        when(newsBatchRepository.insertNews(any(), any())).thenReturn(List.of(10L));
+
+        newsImportService.importNews(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        String result = output.toString(StandardCharsets.UTF_8);
+        assertTrue(result.contains("\"status\":\"CREATED\"") && result.contains("\"id\":10"));
+        verify(newsBatchRepository, times(1)).insertTags(any());
+        verify(newsBatchRepository).insertNewsTags(List.of(new NewsTagPair(10L, 7L)));
+    }
+
+    @Test
+    void importNews_shouldReportGenericError_whenRetryFailsToo() {
+        String input = "{\"title\":\"first news\",\"content\":\"first content\",\"authorName\":\"Author1\"}";
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        when(newsBatchRepository.findAuthorIdsByNames(any())).thenReturn(Map.of("Author1", 1L));
+        when(newsBatchRepository.findExistingTitles(any())).thenReturn(Set.of());
+        when(newsBatchRepository.findTagIdsByNames(any())).thenReturn(new HashMap<>());
+        when(newsBatchRepository.insertNews(any(), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint \"news_title_key\""));
+
+        newsImportService.importNews(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        String result = output.toString(StandardCharsets.UTF_8);
+        assertTrue(result.contains("\"status\":\"FAILED\"") && result.contains(IMPORT_FAILED.getErrorMessage()));
+        assertFalse(result.contains("news_title_key"));
+        verify(newsBatchRepository, times(2)).insertNews(any(), any());
+    }
+}
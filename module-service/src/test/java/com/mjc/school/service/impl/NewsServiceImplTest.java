@@ -1,32 +1,56 @@
 package com.mjc.school.service.impl;
 
 import com.mjc.school.dto.AuthorDtoResponse;
+import com.mjc.school.dto.FieldSelection;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.event.NewsDeletedEvent;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.PreconditionFailedException;
+import com.mjc.school.exception.ValidationException;
+import com.mjc.school.filter.NewsTextSearch;
+import com.mjc.school.mapper.NewsDtoAssembler;
 import com.mjc.school.mapper.NewsDtoMapper;
 import com.mjc.school.model.Author;
 import com.mjc.school.model.News;
-import com.mjc.school.model.SearchParameters;
 import com.mjc.school.model.Tag;
+import com.mjc.school.model.projection.NewsRow;
+import com.mjc.school.model.projection.NewsVersionRow;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
 import com.mjc.school.repository.NewsRepository;
 import com.mjc.school.repository.TagRepository;
+import com.mjc.school.search.NewsQueryCache;
+import com.mjc.school.search.NewsSearchIndex;
+import com.mjc.school.search.SearchResultCache;
+import com.mjc.school.search.TagBitmapIndex;
+import com.mjc.school.version.ResourceVersion;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,9 +65,27 @@ class NewsServiceImplTest {
     @Mock
     private AuthorRepository authorRepository;
     @Mock
+    private CommentRepository commentRepository;
+    @Mock
     private TagRepository tagRepository;
     @Mock
     private NewsDtoMapper newsDtoMapper;
+    @Mock
+    private NewsDtoAssembler newsDtoAssembler;
+    @Mock
+    private NewsTextSearch newsTextSearch;
+    @Mock
+    private NewsSearchIndex newsSearchIndex;
+    @Mock
+    private TagBitmapIndex tagBitmapIndex;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TotalCountCache totalCountCache;
+    @Spy
+    private SearchResultCache searchResultCache = new SearchResultCache(1000, Duration.ofMinutes(1));
+    @Spy
+    private NewsQueryCache newsQueryCache = new NewsQueryCache(100);
 
     @InjectMocks
     private NewsServiceImpl newsService;
@@ -51,15 +93,138 @@ class NewsServiceImplTest {
     @Test
     void readAll_shouldReturnAllNews() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<News> newsList = List.of(new News());
-        Page<News> page = new PageImpl<>(newsList);
-        when(newsRepository.findAll(pageable)).thenReturn(page);
-        when(newsDtoMapper.modelToDto(any())).thenReturn(new NewsDtoResponse());
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        List<NewsRow> rows = List.of(new NewsRow(1L, "title", "content", "content", dateTime, dateTime, 0L, 1L, "author", dateTime, dateTime, 1L));
+        when(newsRepository.findRowSlice(null, pageable)).thenReturn(new SliceImpl<>(rows, pageable, false));
+        when(totalCountCache.get(eq(News.class), any())).thenReturn(1L);
+        when(newsDtoAssembler.toDtos(rows, FieldSelection.ALL)).thenReturn(List.of(new NewsDtoResponse()));
 
         Page<NewsDtoResponse> result = newsService.readAll(null, pageable);
 
         assertThat(result.getContent()).hasSize(1);
-        verify(newsRepository).findAll(pageable);
+        assertThat(result.getTotalElements()).isEqualTo(1L);
+        verify(newsRepository).findRowSlice(null, pageable);
+        verify(newsRepository, never()).findAll(any(Pageable.class));
+        verify(newsRepository, never()).findSlice(any(), any());
+    }
+
+    @Test
+    void readAll_shouldSelectOnlyRequestedColumns_whenFieldsAreGiven() {
+        Pageable pageable = PageRequest.of(0, 10);
+        FieldSelection fields = FieldSelection.parse("title, excerpt");
+        List<NewsRow> rows = List.of(new NewsRow(1L, "title", null, "excerpt", null, null, null, null, null, null, null, null));
+        when(newsRepository.findRowSlice(null, pageable, Set.of("id", "title", "excerpt"))).thenReturn(new SliceImpl<>(rows, pageable, false));
+        when(totalCountCache.get(eq(News.class), any())).thenReturn(1L);
+        when(newsDtoAssembler.toDtos(rows, fields)).thenReturn(List.of(new NewsDtoResponse()));
+
+        Page<NewsDtoResponse> result = newsService.readAll(null, pageable, fields);
+
+        assertThat(result.getContent()).hasSize(1);
+        verify(newsRepository, never()).findRowSlice(null, pageable);
+    }
+
+    @Test
+    void readAll_shouldRejectUnknownFields() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        assertThrows(ValidationException.class, () -> newsService.readAll(null, pageable, FieldSelection.parse("title,secret")));
+        verifyNoInteractions(newsDtoAssembler);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readAll_shouldCompileBooleanQueryIntoSingleSpecification() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(newsRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+        when(newsDtoAssembler.toDtoPage(any(), any())).thenReturn(Page.empty(pageable));
+
+        newsService.readAll(new SearchingRequest("(spring OR java) -author:bob"), pageable);
+        newsService.readAll(new SearchingRequest("(spring OR java) -author:bob"), pageable);
+
+        verify(newsTextSearch).matches("spring");
+        verify(newsTextSearch).matches("java");
+        verify(newsRepository).findRows(any(Specification.class), eq(pageable));
+        verify(newsSearchIndex, never()).search(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readAll_shouldFallBackToDatabase_whenIndexHitsExceedIdFilterLimit() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(newsSearchIndex.isReady()).thenReturn(true);
+        when(newsSearchIndex.search("spring")).thenReturn(new long[10_001]);
+        when(newsRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+        when(newsDtoAssembler.toDtoPage(any(), any())).thenReturn(Page.empty(pageable));
+
+        newsService.readAll(new SearchingRequest("spring"), pageable);
+
+        verify(newsTextSearch).matches("spring");
+        verify(newsRepository, never()).findIds(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readAll_shouldSortIndexHitsWithIdOnlyQuery_whenNotRankedByRelevance() {
+        Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "title"));
+        when(newsSearchIndex.isReady()).thenReturn(true);
+        when(newsSearchIndex.search("spring")).thenReturn(new long[]{1L, 2L});
+        when(newsRepository.findIds(any(Specification.class), eq(Sort.by(Sort.Direction.DESC, "title").and(Sort.by("id")))))
+                .thenReturn(List.of(2L, 1L));
+        NewsDtoResponse second = new NewsDtoResponse();
+        second.setId(2L);
+        when(newsDtoAssembler.readByIds(List.of(2L), FieldSelection.ALL)).thenReturn(Map.of(2L, second));
+
+        Page<NewsDtoResponse> result = newsService.readAll(new SearchingRequest("spring"), pageable);
+
+        assertThat(result.getContent()).containsExactly(second);
+        assertThat(result.getTotalElements()).isEqualTo(2L);
+        verify(newsRepository, never()).findRows(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readAll_shouldMatchEachWordAndPhraseSeparately() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(newsRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+        when(newsDtoAssembler.toDtoPage(any(), any())).thenReturn(Page.empty(pageable));
+
+        newsService.readAll(new SearchingRequest("spring \"data jpa\" boot"), pageable);
+
+        verify(newsTextSearch).matches("spring");
+        verify(newsTextSearch).matches("boot");
+        verify(newsTextSearch).matchesPhrase("data jpa");
+        verify(newsTextSearch, never()).matches("spring boot data jpa");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readAll_shouldDropIndexHitsWithoutThePhrase() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(newsSearchIndex.isReady()).thenReturn(true);
+        when(newsSearchIndex.search("data jpa")).thenReturn(new long[]{1L, 2L});
+        when(newsRepository.findIds(any(Specification.class), eq(Sort.unsorted()))).thenReturn(List.of(2L));
+        when(newsRepository.findIds(any(Specification.class), eq(Sort.by("id")))).thenReturn(List.of(2L));
+        NewsDtoResponse matching = new NewsDtoResponse();
+        matching.setId(2L);
+        when(newsDtoAssembler.readByIds(List.of(2L), FieldSelection.ALL)).thenReturn(Map.of(2L, matching));
+
+        Page<NewsDtoResponse> result = newsService.readAll(new SearchingRequest("\"data jpa\""), pageable);
+
+        assertThat(result.getContent()).containsExactly(matching);
+        verify(newsTextSearch).matchesPhrase("data jpa");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void readAll_shouldSearchLiteralWords_whenQueryDoesNotParse() {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(newsRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(new PageImpl<>(List.of(), pageable, 0));
+        when(newsDtoAssembler.toDtoPage(any(), any())).thenReturn(Page.empty(pageable));
+
+        newsService.readAll(new SearchingRequest("(spring OR"), pageable);
+
+        verify(newsTextSearch).matches("(spring");
+        verify(newsTextSearch).matches("or");
     }
 
     @Test
@@ -99,6 +264,20 @@ class NewsServiceImplTest {
 
         assertThat(result).isNotNull();
         verify(newsRepository).save(news);
+        verify(authorRepository).adjustNewsCount(1L, 1);
+    }
+
+    @Test
+    void create_shouldReportAllMissingTags_withoutLoadingTags() {
+        NewsDtoRequest request = new NewsDtoRequest("title", "content", 1L, List.of(1L, 2L, 2L, 3L));
+        when(authorRepository.existsById(1L)).thenReturn(true);
+        when(tagRepository.findExistingIds(List.of(1L, 2L, 3L))).thenReturn(List.of(2L));
+
+        NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.create(request));
+
+        assertEquals(String.format(TAGS_DO_NOT_EXIST.getErrorMessage(), List.of(1L, 3L)), exception.getMessage());
+        verify(tagRepository, never()).findAllById(any());
+        verifyNoInteractions(newsDtoMapper);
     }
 
     @Test
@@ -122,8 +301,10 @@ class NewsServiceImplTest {
         news.setId(1L);
 
         when(newsRepository.findById(1L)).thenReturn(Optional.of(news));
+        Tag tag = new Tag();
+        tag.setId(3L);
         when(authorRepository.findById(2L)).thenReturn(Optional.of(new Author()));
-        when(tagRepository.findById(3L)).thenReturn(Optional.of(new Tag()));
+        when(tagRepository.findAllById(List.of(3L))).thenReturn(List.of(tag));
         when(newsRepository.save(news)).thenReturn(news);
         when(newsDtoMapper.modelToDto(news)).thenReturn(new NewsDtoResponse());
 
@@ -132,6 +313,38 @@ class NewsServiceImplTest {
         assertThat(result).isNotNull();
     }
 
+    @Test
+    void update_shouldRejectStaleIfMatch_beforeTouchingCounters() {
+        NewsDtoRequest request = new NewsDtoRequest();
+        request.setAuthorId(2L);
+        LocalDateTime now = LocalDateTime.now();
+        List<NewsVersionRow> rows = List.of(new NewsVersionRow(2, 0, now, 0, 1, now, null, null));
+
+        when(newsRepository.findById(1L)).thenReturn(Optional.of(new News()));
+        when(newsRepository.findVersionRowsById(1L)).thenReturn(rows);
+
+        PreconditionFailedException exception = assertThrows(PreconditionFailedException.class,
+                () -> newsService.update(1L, request, "\"stale\""));
+        assertEquals(exception.getMessage(), String.format(PRECONDITION_FAILED.getErrorMessage(), 1L));
+        verifyNoInteractions(authorRepository);
+        verify(newsRepository, never()).save(any());
+    }
+
+    @Test
+    void readVersion_shouldChangeETag_whenTagVersionChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        when(newsRepository.findVersionRowsById(1L))
+                .thenReturn(List.of(new NewsVersionRow(0, 0, now, 0, 1, now, 3L, 0L)))
+                .thenReturn(List.of(new NewsVersionRow(0, 0, now, 0, 1, now, 3L, 1L)));
+
+        ResourceVersion before = newsService.readVersion(1L);
+        ResourceVersion after = newsService.readVersion(1L);
+
+        assertNotEquals(before.eTag(), after.eTag());
+        assertTrue(after.matches("\"" + after.eTag() + "\""));
+        assertFalse(after.matches("W/\"" + after.eTag() + "\""));
+    }
+
     @Test
     void update_shouldThrow_whenNewsNotExists() {
         NewsDtoRequest request = new NewsDtoRequest();
@@ -161,10 +374,10 @@ class NewsServiceImplTest {
 
         when(newsRepository.findById(1L)).thenReturn(Optional.of(new News()));
         when(authorRepository.findById(2L)).thenReturn(Optional.of(new Author()));
-        when(tagRepository.findById(3L)).thenReturn(Optional.empty());
+        when(tagRepository.findAllById(List.of(3L))).thenReturn(List.of());
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.update(1L, request));
-        assertEquals(exception.getMessage(), String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 3L));
+        assertEquals(exception.getMessage(), String.format(TAGS_DO_NOT_EXIST.getErrorMessage(), List.of(3L)));
     }
 
 
@@ -272,6 +485,7 @@ class NewsServiceImplTest {
         assertEquals(newAuthor, existingNews.getAuthor());
 
         verify(newsRepository).findById(10L);
+        verify(authorRepository).adjustNewsCount(2L, 1);
         verify(authorRepository).findById(2L);
         verify(newsRepository).save(existingNews);
         verify(newsDtoMapper).modelToDto(existingNews);
@@ -296,6 +510,7 @@ class NewsServiceImplTest {
         assertEquals(exception.getMessage(), String.format(AUTHOR_DOES_NOT_EXIST.getErrorMessage(), 999L));
 
         verify(newsRepository).findById(10L);
+        verify(authorRepository).adjustNewsCount(999L, 1);
         verify(authorRepository).findById(999L);
         verifyNoMoreInteractions(newsRepository, authorRepository, tagRepository, newsDtoMapper);
     }
@@ -317,8 +532,7 @@ class NewsServiceImplTest {
         when(newsRepository.findById(10L)).thenReturn(Optional.of(existingNews));
         when(newsRepository.save(existingNews)).thenReturn(existingNews);
         when(newsDtoMapper.modelToDto(existingNews)).thenReturn(expectedResponse);
-        when(tagRepository.findById(1L)).thenReturn(Optional.of(tagsFromDb.get(0)));
-        when(tagRepository.findById(2L)).thenReturn(Optional.of(tagsFromDb.get(1)));
+        when(tagRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(tagsFromDb.get(1), tagsFromDb.get(0)));
 
         NewsDtoResponse actual = newsService.patch(10L, patchRequest);
 
@@ -326,8 +540,7 @@ class NewsServiceImplTest {
         assertEquals(tagsFromDb, existingNews.getTags());
 
         verify(newsRepository).findById(10L);
-        verify(tagRepository).findById(1L);
-        verify(tagRepository).findById(2L);
+        verify(tagRepository).findAllById(List.of(1L, 2L));
         verify(newsRepository).save(existingNews);
         verify(newsDtoMapper).modelToDto(existingNews);
         verifyNoInteractions(authorRepository);
@@ -346,17 +559,15 @@ class NewsServiceImplTest {
         existingNews.setId(10L);
 
         when(newsRepository.findById(10L)).thenReturn(Optional.of(existingNews));
-        when(tagRepository.findById(1L)).thenReturn(Optional.of(incompleteTagsList.get(0)));
-        when(tagRepository.findById(2L)).thenReturn(Optional.empty());
+        when(tagRepository.findAllById(List.of(1L, 2L))).thenReturn(incompleteTagsList);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> newsService.patch(10L, patchRequest));
 
-        assertEquals(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), 2L), exception.getMessage());
+        assertEquals(String.format(TAGS_DO_NOT_EXIST.getErrorMessage(), List.of(2L)), exception.getMessage());
 
         verify(newsRepository).findById(10L);
-        verify(tagRepository).findById(1L);
-        verify(tagRepository).findById(2L);
+        verify(tagRepository).findAllById(List.of(1L, 2L));
         verifyNoMoreInteractions(newsRepository, authorRepository, tagRepository, newsDtoMapper);
     }
 
@@ -364,26 +575,30 @@ class NewsServiceImplTest {
     void deleteById_whenNewsExists_shouldDeleteSuccessfully() {
         Long id = 1L;
 
-        when(newsRepository.existsById(id)).thenReturn(true);
+        when(newsRepository.deleteNewsById(id)).thenReturn(1);
 
         newsService.deleteById(id);
 
-        verify(newsRepository).existsById(id);
-        verify(newsRepository).deleteById(id);
+        InOrder inOrder = inOrder(commentRepository, newsRepository, authorRepository);
+        inOrder.verify(commentRepository).deleteByNewsId(id);
+        inOrder.verify(newsRepository).deleteTagLinksByNewsId(id);
+        inOrder.verify(authorRepository).decrementNewsCountByNewsId(id);
+        inOrder.verify(newsRepository).deleteNewsById(id);
+        verify(newsRepository, never()).existsById(any());
+        verify(eventPublisher).publishEvent(new NewsDeletedEvent(id));
     }
 
     @Test
     void deleteById_whenNewsDoesNotExist_shouldThrowNotFoundException() {
         Long id = 2L;
 
-        when(newsRepository.existsById(id)).thenReturn(false);
+        when(newsRepository.deleteNewsById(id)).thenReturn(0);
 
         NotFoundException exception = assertThrows(NotFoundException.class, () -> newsService.deleteById(id));
 
         assertEquals(exception.getMessage(), String.format(NEWS_DOES_NOT_EXIST.getErrorMessage(), id));
 
-        verify(newsRepository).existsById(id);
-        verify(newsRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher, totalCountCache);
     }
 
     @Test
@@ -398,22 +613,22 @@ class NewsServiceImplTest {
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        News news = new News();
         LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        NewsRow row = new NewsRow(1L, "title", "content", "content", dateTime, dateTime, 0L, 1L, "author", dateTime, dateTime, 1L);
         NewsDtoResponse dto = new NewsDtoResponse(1L, "title", "content", dateTime, dateTime, null, List.of());
 
-        Page<News> newsPage = new PageImpl<>(List.of(news));
+        Page<NewsRow> rowPage = new PageImpl<>(List.of(row));
 
-        when(newsRepository.readByParams(any(SearchParameters.class), eq(pageable))).thenReturn(newsPage);
-        when(newsDtoMapper.modelToDto(news)).thenReturn(dto);
+        when(newsRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(rowPage);
+        when(newsDtoAssembler.toDtoPage(rowPage)).thenReturn(new PageImpl<>(List.of(dto)));
 
         Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
 
         assertEquals(1, result.getTotalElements());
         assertEquals(dto, result.getContent().get(0));
 
-        verify(newsRepository).readByParams(any(SearchParameters.class), eq(pageable));
-        verify(newsDtoMapper).modelToDto(news);
+        verify(newsRepository).findRows(any(Specification.class), eq(pageable));
+        verify(newsDtoAssembler).toDtoPage(rowPage);
     }
 
     @Test
@@ -428,19 +643,19 @@ class NewsServiceImplTest {
 
         Pageable pageable = PageRequest.of(0, 10);
 
-        News news = new News();
         LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        NewsRow row = new NewsRow(1L, "title", "content", "content", dateTime, dateTime, 0L, 1L, "author", dateTime, dateTime, 1L);
         NewsDtoResponse dtoResponse = new NewsDtoResponse(1L, "title", "content", dateTime, dateTime, null, null);
 
-        Page<News> newsPage = new PageImpl<>(List.of(news));
+        Page<NewsRow> rowPage = new PageImpl<>(List.of(row));
 
-        when(newsRepository.readByParams(any(SearchParameters.class), eq(pageable))).thenReturn(newsPage);
-        when(newsDtoMapper.modelToDto(news)).thenReturn(dtoResponse);
+        when(newsRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(rowPage);
+        when(newsDtoAssembler.toDtoPage(rowPage)).thenReturn(new PageImpl<>(List.of(dtoResponse)));
 
         Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
 
         assertEquals(1, result.getTotalElements());
-        verify(newsRepository).readByParams(any(SearchParameters.class), eq(pageable));
+        verify(newsRepository).findRows(any(Specification.class), eq(pageable));
     }
 
     @Test
@@ -455,12 +670,37 @@ class NewsServiceImplTest {
 
         Pageable pageable = PageRequest.of(0, 5);
 
-        when(newsRepository.readByParams(any(SearchParameters.class), eq(pageable)))
+        when(newsRepository.findRows(any(Specification.class), eq(pageable)))
                 .thenReturn(Page.empty());
+        when(newsDtoAssembler.toDtoPage(any())).thenReturn(Page.empty());
 
         Page<NewsDtoResponse> result = newsService.readByParams(request, pageable);
 
         assertTrue(result.isEmpty());
-        verify(newsRepository).readByParams(any(SearchParameters.class), eq(pageable));
+        verify(newsRepository).findRows(any(Specification.class), eq(pageable));
+    }
+
+    @Test
+    void readByParams_sameNormalizedParamsTwice_shouldServeIdsFromCache() {
+        ParametersDtoRequest first = new ParametersDtoRequest("Title", "", "", List.of(2, 1), null);
+        ParametersDtoRequest second = new ParametersDtoRequest("title", "", "", List.of(1, 2), null);
+        Pageable pageable = PageRequest.of(0, 10);
+
+        LocalDateTime dateTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        NewsRow row = new NewsRow(1L, "title", "content", "content", dateTime, dateTime, 0L, 1L, "author", dateTime, dateTime, 1L);
+        NewsDtoResponse dto = new NewsDtoResponse(1L, "title", "content", dateTime, dateTime, null, List.of());
+        Page<NewsRow> rowPage = new PageImpl<>(List.of(row), pageable, 1);
+
+        when(newsRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(rowPage);
+        when(newsDtoAssembler.toDtoPage(rowPage)).thenReturn(new PageImpl<>(List.of(dto), pageable, 1));
+        when(newsDtoAssembler.readByIds(List.of(1L), FieldSelection.ALL)).thenReturn(Map.of(1L, dto));
+
+        newsService.readByParams(first, pageable);
+        Page<NewsDtoResponse> result = newsService.readByParams(second, pageable);
+
+        assertEquals(List.of(dto), result.getContent());
+        assertEquals(1, result.getTotalElements());
+        verify(newsRepository, times(1)).findRows(any(Specification.class), eq(pageable));
+        verify(newsDtoAssembler).readByIds(List.of(1L), FieldSelection.ALL);
     }
-}
\ No newline at end of file
+}
@@ -1,23 +1,33 @@
 package com.mjc.school.service.impl;
 
+import com.mjc.school.dto.ParametersDtoRequest;
 import com.mjc.school.dto.SearchingRequest;
+import com.mjc.school.dto.TagBulkDtoResponse;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
+import com.mjc.school.event.TagDeletedEvent;
+import com.mjc.school.event.TagLinksChangedEvent;
 import com.mjc.school.exception.NotFoundException;
+import com.mjc.school.exception.ValidationException;
 import com.mjc.school.filter.EntitySpecification;
 import com.mjc.school.mapper.TagDtoMapper;
 import com.mjc.school.model.Tag;
+import com.mjc.school.model.projection.TagRow;
+import com.mjc.school.pagination.TotalCountCache;
 import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.NewsTagBulkRepository;
 import com.mjc.school.repository.TagRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.util.List;
@@ -37,7 +47,13 @@ class TagServiceImplTest {
     @Mock
     private NewsRepository newsRepository;
     @Mock
+    private NewsTagBulkRepository newsTagBulkRepository;
+    @Mock
     private TagDtoMapper tagDtoMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TotalCountCache totalCountCache;
 
     @InjectMocks
     private TagServiceImpl tagService;
@@ -45,19 +61,21 @@ class TagServiceImplTest {
     @Test
     void readAll_shouldReturnAllTags_whenSearchingRequestIsNull() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<Tag> tags = List.of(new Tag(), new Tag());
-        Page<Tag> tagPage = new PageImpl<>(tags, pageable, tags.size());
+        List<TagRow> tags = List.of(new TagRow(1L, "name1"), new TagRow(2L, "name2"));
 
         TagDtoResponse dtoResponse = new TagDtoResponse();
 
-        when(tagRepository.findAll(pageable)).thenReturn(tagPage);
-        when(tagDtoMapper.modelToDto(any(Tag.class))).thenReturn(dtoResponse);
+        when(tagRepository.findRowSlice(null, pageable)).thenReturn(new SliceImpl<>(tags, pageable, false));
+        when(totalCountCache.get(eq(Tag.class), any())).thenReturn((long) tags.size());
+        when(tagDtoMapper.rowToDto(any(TagRow.class))).thenReturn(dtoResponse);
 
         Page<TagDtoResponse> result = tagService.readAll(null, pageable);
 
         assertEquals(tags.size(), result.getContent().size());
-        verify(tagRepository).findAll(pageable);
-        verify(tagDtoMapper, times(tags.size())).modelToDto(any(Tag.class));
+        assertEquals(tags.size(), result.getTotalElements());
+        verify(tagRepository).findRowSlice(null, pageable);
+        verify(tagRepository, never()).findSlice(any(), any());
+        verify(tagDtoMapper, times(tags.size())).rowToDto(any(TagRow.class));
     }
 
     @Test
@@ -66,17 +84,17 @@ class TagServiceImplTest {
         SearchingRequest searchingRequest = new SearchingRequest("Name");
         Specification<Tag> specification = EntitySpecification.searchByFields(List.of("name"), searchingRequest.getValue());
 
-        List<Tag> tags = List.of(new Tag(), new Tag());
-        Page<Tag> tagPage = new PageImpl<>(tags, pageable, tags.size());
+        List<TagRow> tags = List.of(new TagRow(1L, "Name1"), new TagRow(2L, "Name2"));
+        Page<TagRow> tagPage = new PageImpl<>(tags, pageable, tags.size());
 
-        when(tagRepository.findAll(any(Specification.class), eq(pageable))).thenReturn(tagPage);
-        when(tagDtoMapper.modelToDto(any(Tag.class))).thenReturn(new TagDtoResponse());
+        when(tagRepository.findRows(any(Specification.class), eq(pageable))).thenReturn(tagPage);
+        when(tagDtoMapper.rowToDto(any(TagRow.class))).thenReturn(new TagDtoResponse());
 
         Page<TagDtoResponse> result = tagService.readAll(searchingRequest, pageable);
 
         assertEquals(tags.size(), result.getContent().size());
-        verify(tagRepository).findAll(any(Specification.class), eq(pageable));
-        verify(tagDtoMapper, times(tags.size())).modelToDto(any(Tag.class));
+        verify(tagRepository).findRows(any(Specification.class), eq(pageable));
+        verify(tagDtoMapper, times(tags.size())).rowToDto(any(TagRow.class));
     }
 
     @Test
@@ -245,44 +263,93 @@ class TagServiceImplTest {
     @Test
     void deleteById_shouldDelete_whenTagExists() {
         Long id = 1L;
-        Tag tag = new Tag("Tag1");
-        tag.setId(id);
 
-        when(tagRepository.findById(id)).thenReturn(Optional.of(tag));
+        when(tagRepository.deleteTagById(id)).thenReturn(1);
 
         tagService.deleteById(id);
 
-        verify(tagRepository).findById(id);
-        verify(tagRepository).deleteById(id);
+        verify(newsTagBulkRepository).deleteLinks(id);
+        verify(tagRepository).deleteTagById(id);
+        verify(eventPublisher).publishEvent(new TagDeletedEvent(id));
+        verify(tagRepository, never()).findById(any());
     }
 
     @Test
     void deleteById_shouldThrowNotFoundException_whenTagDoesNotExist() {
         Long id = 99L;
 
-        when(tagRepository.findById(id)).thenReturn(Optional.empty());
+        when(tagRepository.deleteTagById(id)).thenReturn(0);
 
         NotFoundException exception = assertThrows(NotFoundException.class,
                 () -> tagService.deleteById(id));
 
         assertEquals(String.format(TAG_DOES_NOT_EXIST.getErrorMessage(), id), exception.getMessage());
 
-        verify(tagRepository).findById(id);
-        verify(tagRepository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher, totalCountCache);
+    }
+
+    @Test
+    void merge_shouldMoveLinksAndDeleteSource() {
+        when(tagRepository.existsById(2L)).thenReturn(true);
+        when(newsTagBulkRepository.copyLinks(1L, 2L)).thenReturn(3);
+        when(tagRepository.deleteTagById(1L)).thenReturn(1);
+
+        TagBulkDtoResponse result = tagService.merge(1L, 2L);
+
+        assertEquals(new TagBulkDtoResponse(2L, 3), result);
+        verify(newsTagBulkRepository).deleteLinks(1L);
+        verify(eventPublisher).publishEvent(new TagDeletedEvent(1L));
+        verify(eventPublisher).publishEvent(new TagLinksChangedEvent(2L));
+    }
+
+    @Test
+    void merge_shouldThrowValidationException_whenMergingIntoItself() {
+        assertThrows(ValidationException.class, () -> tagService.merge(1L, 1L));
+
+        verifyNoInteractions(tagRepository, newsTagBulkRepository);
+    }
+
+    @Test
+    void addToNews_shouldThrowNotFoundException_whenTagDoesNotExist() {
+        when(tagRepository.existsById(7L)).thenReturn(false);
+
+        assertThrows(NotFoundException.class,
+                () -> tagService.addToNews(7L, new ParametersDtoRequest(null, null, "author", null, null)));
+
+        verifyNoInteractions(newsTagBulkRepository);
+    }
+
+    @Test
+    void addToNews_shouldThrowValidationException_whenFilterIsEmpty() {
+        assertThrows(ValidationException.class,
+                () -> tagService.addToNews(7L, new ParametersDtoRequest("", null, null, List.of(), null)));
+
+        verifyNoInteractions(newsTagBulkRepository);
+    }
+
+    @Test
+    void removeFromNews_shouldRemoveLinksOfMatchingNews() {
+        ParametersDtoRequest params = new ParametersDtoRequest("title", "", null, null, null);
+        when(tagRepository.existsById(7L)).thenReturn(true);
+        when(newsTagBulkRepository.removeLinks(7L, params.toSearchParameters())).thenReturn(4);
+
+        TagBulkDtoResponse result = tagService.removeFromNews(7L, params);
+
+        assertEquals(4, result.affectedNews());
+        verify(eventPublisher).publishEvent(new TagLinksChangedEvent(7L));
     }
 
     @Test
     void readByNewsId_shouldReturnPageOfTags_whenNewsExists() {
         Long newsId = 1L;
         Pageable pageable = PageRequest.of(0, 10);
-        Tag tag = new Tag("Name");
-        tag.setId(1L);
+        TagRow tag = new TagRow(1L, "Name");
         TagDtoResponse dtoResponse = new TagDtoResponse(1L, "Name");
-        Page<Tag> tagPage = new PageImpl<>(List.of(tag));
+        Page<TagRow> tagPage = new PageImpl<>(List.of(tag));
 
         when(newsRepository.existsById(newsId)).thenReturn(true);
         when(tagRepository.readByNewsId(newsId, pageable)).thenReturn(tagPage);
-        when(tagDtoMapper.modelToDto(tag)).thenReturn(dtoResponse);
+        when(tagDtoMapper.rowToDto(tag)).thenReturn(dtoResponse);
 
         Page<TagDtoResponse> result = tagService.readByNewsId(newsId, pageable);
 
@@ -290,7 +357,7 @@ class TagServiceImplTest {
         assertEquals(dtoResponse, result.getContent().get(0));
         verify(newsRepository).existsById(newsId);
         verify(tagRepository).readByNewsId(newsId, pageable);
-        verify(tagDtoMapper).modelToDto(tag);
+        verify(tagDtoMapper).rowToDto(tag);
     }
 
     @Test
@@ -0,0 +1,28 @@
+package com.mjc.school.validator;
+
+import com.mjc.school.dto.TagDtoRequest;
+import com.mjc.school.validator.checkers.NotNullChecker;
+import com.mjc.school.validator.checkers.StringFieldChecker;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ValidatorImplTest {
+    private final Validator validator = new ValidatorImpl(List.of(new StringFieldChecker(), new NotNullChecker()));
+
+    @Test
+    void validate_shouldReturnSharedEmptySetForValidObject() {
+        assertThat(validator.validate(new TagDtoRequest("valid"))).isEmpty();
+        assertThat(validator.validate(new TagDtoRequest("valid"))).isSameAs(validator.validate(null));
+    }
+
+    @Test
+    void validate_shouldReportEveryViolatedConstraint() {
+        assertThat(validator.validate(new TagDtoRequest("ab")))
+                .containsExactly(new ConstraintViolation("Constraint StringField violated for value ab"));
+        assertThat(validator.validate(new TagDtoRequest(null)))
+                .containsExactly(new ConstraintViolation("Constraint NotNull violated for value null"));
+    }
+}
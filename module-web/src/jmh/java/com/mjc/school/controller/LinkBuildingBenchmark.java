@@ -0,0 +1,72 @@
+package com.mjc.school.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.mjc.school.controller.LinkFactory.selfLink;
+import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LinkBuildingBenchmark {
+    private static final int TAGS_PER_NEWS = 3;
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Setup(Level.Invocation)
+    public void bindRequest() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/news");
+        request.setServerName("localhost");
+        request.setServerPort(8080);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @TearDown(Level.Invocation)
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public void webMvcLinkBuilder(Blackhole blackhole) {
+        for (long id = 1; id <= pageSize; id++) {
+            blackhole.consume(linkTo(NewsController.class).slash(id).withSelfRel());
+            blackhole.consume(linkTo(AuthorController.class).slash(id).withSelfRel());
+            for (long tagId = 1; tagId <= TAGS_PER_NEWS; tagId++) {
+                blackhole.consume(linkTo(TagController.class).slash(tagId).withSelfRel());
+            }
+        }
+    }
+
+    @Benchmark
+    public void linkFactory(Blackhole blackhole) {
+        for (long id = 1; id <= pageSize; id++) {
+            blackhole.consume(selfLink(NewsController.class, id));
+            blackhole.consume(selfLink(AuthorController.class, id));
+            for (long tagId = 1; tagId <= TAGS_PER_NEWS; tagId++) {
+                blackhole.consume(selfLink(TagController.class, tagId));
+            }
+        }
+    }
+}
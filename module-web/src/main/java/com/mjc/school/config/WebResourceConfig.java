@@ -0,0 +1,30 @@
+package com.mjc.school.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
+
+@Configuration
+public class WebResourceConfig implements WebMvcConfigurer {
+    private static final String FRONTEND_LOCATION = "classpath:/static/";
+    private static final String HASHED_ASSETS_LOCATION = "classpath:/static/static/";
+    private static final Duration HASHED_ASSETS_MAX_AGE = Duration.ofDays(365);
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/static/**")
+                .addResourceLocations(HASHED_ASSETS_LOCATION)
+                .setCacheControl(CacheControl.maxAge(HASHED_ASSETS_MAX_AGE).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+        registry.addResourceHandler("/**")
+                .addResourceLocations(FRONTEND_LOCATION)
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+}
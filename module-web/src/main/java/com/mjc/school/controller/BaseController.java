@@ -2,19 +2,23 @@ package com.mjc.school.controller;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
 
 public interface BaseController<T, R, K> {
 
-    ResponseEntity<Page<R>> readAll(String search, Pageable pageable);
+    ResponseEntity<Page<R>> readAll(String search, String fields, Pageable pageable);
 
-    ResponseEntity<R> readById(K id);
+    ResponseEntity<Slice<R>> readAllSlice(String search, String fields, Pageable pageable);
+
+    ResponseEntity<R> readById(K id, WebRequest request);
 
     ResponseEntity<R> create(T createRequest);
 
-    ResponseEntity<R> update(Long id, T updateRequest);
+    ResponseEntity<R> update(Long id, T updateRequest, String ifMatch);
 
-    ResponseEntity<R> patch(Long id, T patchRequest);
+    ResponseEntity<R> patch(Long id, T patchRequest, String ifMatch);
 
     void deleteById(K id);
 }
@@ -0,0 +1,71 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.dto.CacheRegionDtoResponse;
+import com.mjc.school.dto.PrincipalCacheDtoResponse;
+import com.mjc.school.dto.SearchCacheDtoResponse;
+import com.mjc.school.service.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static com.mjc.school.controller.RestConstants.ADMIN_V1_API_PATH;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping(value = ADMIN_V1_API_PATH + "/cache")
+public class CacheStatisticsController {
+    private final CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    public CacheStatisticsController(CacheStatisticsService cacheStatisticsService) {
+        this.cacheStatisticsService = cacheStatisticsService;
+    }
+
+    @Operation(summary = "View second-level cache statistics per region")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the cache statistics"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<CacheRegionDtoResponse>> readRegions() {
+        return new ResponseEntity<>(cacheStatisticsService.readRegions(), OK);
+    }
+
+    @Operation(summary = "View news search result cache statistics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the search cache statistics"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/search")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<SearchCacheDtoResponse> readSearchCache() {
+        return new ResponseEntity<>(cacheStatisticsService.readSearchCache(), OK);
+    }
+
+    @Operation(summary = "View authenticated principal cache statistics")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the principal cache statistics"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/principals")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<PrincipalCacheDtoResponse> readPrincipalCache() {
+        return new ResponseEntity<>(cacheStatisticsService.readPrincipalCache(), OK);
+    }
+}
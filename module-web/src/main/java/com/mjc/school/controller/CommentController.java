@@ -2,6 +2,7 @@ package com.mjc.school.controller;
 
 import com.mjc.school.dto.CommentDtoRequest;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.FieldSelection;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.service.CommentService;
@@ -11,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.hateoas.Link;
@@ -23,13 +25,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import static com.mjc.school.controller.LinkFactory.selfLink;
 import static com.mjc.school.controller.RestConstants.COMMENTS_V1_API_PATH;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -45,14 +50,17 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
     }
 
     private static void setLinks(CommentDtoResponse commentDtoResponse) {
-        Link selfRel = linkTo(CommentController.class).slash(commentDtoResponse.getId()).withSelfRel();
+        Link selfRel = selfLink(CommentController.class, commentDtoResponse.getId());
         commentDtoResponse.add(selfRel);
-        Link newsRel = linkTo(NewsController.class).slash(commentDtoResponse.getNewsDtoResponse().getId()).withSelfRel();
+        if (commentDtoResponse.getNewsDtoResponse() == null) {
+            return;
+        }
+        Link newsRel = selfLink(NewsController.class, commentDtoResponse.getNewsDtoResponse().getId());
         commentDtoResponse.getNewsDtoResponse().add(newsRel);
-        Link authorRel = linkTo(AuthorController.class).slash(commentDtoResponse.getNewsDtoResponse().getAuthorDtoResponse().getId()).withSelfRel();
+        Link authorRel = selfLink(AuthorController.class, commentDtoResponse.getNewsDtoResponse().getAuthorDtoResponse().getId());
         commentDtoResponse.getNewsDtoResponse().getAuthorDtoResponse().add(authorRel);
         for (TagDtoResponse tagDtoResponse : commentDtoResponse.getNewsDtoResponse().getTagDtoResponseList()) {
-            Link tagRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+            Link tagRel = selfLink(TagController.class, tagDtoResponse.getId());
             tagDtoResponse.add(tagRel);
         }
     }
@@ -61,6 +69,7 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
     @Operation(summary = "View all comments")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved all comments"),
+            @ApiResponse(responseCode = "400", description = "The requested fields are not supported"),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
@@ -70,12 +79,13 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
     @PreAuthorize("permitAll()")
     public ResponseEntity<Page<CommentDtoResponse>> readAll(
             @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "fields", required = false) String fields,
             @PageableDefault(sort = "content", direction = Sort.Direction.DESC) Pageable pageable) {
         SearchingRequest searchingRequest = null;
         if (search != null && !search.isBlank()) {
             searchingRequest = new SearchingRequest(search);
         }
-        Page<CommentDtoResponse> pageDtoResponse = commentService.readAll(searchingRequest, pageable);
+        Page<CommentDtoResponse> pageDtoResponse = commentService.readAll(searchingRequest, pageable, FieldSelection.parse(fields));
         for (CommentDtoResponse commentDtoResponse : pageDtoResponse.stream().toList()) {
             setLinks(commentDtoResponse);
         }
@@ -83,18 +93,49 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
         return new ResponseEntity<>(pageDtoResponse, OK);
     }
 
+    @Override
+    @Operation(summary = "View all comments without counting the total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of comments"),
+            @ApiResponse(responseCode = "400", description = "The requested fields are not supported"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(params = "withTotal=false")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<Slice<CommentDtoResponse>> readAllSlice(
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "fields", required = false) String fields,
+            @PageableDefault(sort = "content", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (search != null && !search.isBlank()) {
+            searchingRequest = new SearchingRequest(search);
+        }
+        Slice<CommentDtoResponse> sliceDtoResponse = commentService.readAllSlice(searchingRequest, pageable, FieldSelection.parse(fields));
+        for (CommentDtoResponse commentDtoResponse : sliceDtoResponse) {
+            setLinks(commentDtoResponse);
+        }
+
+        return new ResponseEntity<>(sliceDtoResponse, OK);
+    }
+
     @Override
     @Operation(summary = "Get comment by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved comment by id"),
+            @ApiResponse(responseCode = "304", description = "The resource has not been modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @GetMapping(value = "/{id}")
-    @ResponseStatus(OK)
     @PreAuthorize("permitAll()")
-    public ResponseEntity<CommentDtoResponse> readById(@PathVariable Long id) {
+    public ResponseEntity<CommentDtoResponse> readById(@PathVariable Long id, WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, commentService.readVersion(id))) {
+            return null;
+        }
         CommentDtoResponse commentDtoResponse = commentService.readById(id);
         setLinks(commentDtoResponse);
         return new ResponseEntity<>(commentDtoResponse, OK);
@@ -124,12 +165,14 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "412", description = "The resource has been modified since the supplied ETag"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @PutMapping(value = "/{id}")
     @ResponseStatus(OK)
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<CommentDtoResponse> update(@PathVariable Long id, @RequestBody CommentDtoRequest updateRequest) {
-        CommentDtoResponse commentDtoResponse = commentService.update(id, updateRequest);
+    public ResponseEntity<CommentDtoResponse> update(@PathVariable Long id, @RequestBody CommentDtoRequest updateRequest,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch) {
+        CommentDtoResponse commentDtoResponse = commentService.update(id, updateRequest, ifMatch);
         setLinks(commentDtoResponse);
         return new ResponseEntity<>(commentDtoResponse, OK);
     }
@@ -141,12 +184,14 @@ public class CommentController implements BaseController<CommentDtoRequest, Comm
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "412", description = "The resource has been modified since the supplied ETag"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @PatchMapping(value = "/{id}")
     @ResponseStatus(OK)
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<CommentDtoResponse> patch(@PathVariable Long id, @RequestBody CommentDtoRequest updateRequest) {
-        CommentDtoResponse commentDtoResponse = commentService.patch(id, updateRequest);
+    public ResponseEntity<CommentDtoResponse> patch(@PathVariable Long id, @RequestBody CommentDtoRequest updateRequest,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch) {
+        CommentDtoResponse commentDtoResponse = commentService.patch(id, updateRequest, ifMatch);
         setLinks(commentDtoResponse);
         return new ResponseEntity<>(commentDtoResponse, OK);
     }
@@ -0,0 +1,14 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.version.ResourceVersion;
+import org.springframework.web.context.request.WebRequest;
+
+final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    static boolean isNotModified(WebRequest request, ResourceVersion version) {
+        return request.checkNotModified(version.eTag());
+    }
+}
@@ -0,0 +1,95 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.export.ExportFormat;
+import com.mjc.school.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+import static com.mjc.school.controller.RestConstants.ADMIN_V1_API_PATH;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping(value = ADMIN_V1_API_PATH + "/export")
+public class ExportController {
+    private final ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    private static ExportFormat prepare(HttpServletResponse response, String format, String name) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+        response.setStatus(OK.value());
+        response.setContentType(exportFormat.getMediaType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(name + "." + exportFormat.getExtension())
+                .build()
+                .toString());
+        return exportFormat;
+    }
+
+    @Operation(summary = "Export all news matching the params as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed the news"),
+            @ApiResponse(responseCode = "400", description = "The export format is not supported"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/news")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void exportNews(ParametersDtoRequest parametersDtoRequest,
+                           @RequestParam(value = "format", defaultValue = "ndjson") String format,
+                           HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = prepare(response, format, "news");
+        exportService.exportNews(parametersDtoRequest, exportFormat, response.getOutputStream());
+    }
+
+    @Operation(summary = "Export all comments as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed the comments"),
+            @ApiResponse(responseCode = "400", description = "The export format is not supported"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/comments")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void exportComments(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                               HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = prepare(response, format, "comments");
+        exportService.exportComments(exportFormat, response.getOutputStream());
+    }
+
+    @Operation(summary = "Export all authors as NDJSON or CSV")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully streamed the authors"),
+            @ApiResponse(responseCode = "400", description = "The export format is not supported"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/authors")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void exportAuthors(@RequestParam(value = "format", defaultValue = "ndjson") String format,
+                              HttpServletResponse response) throws IOException {
+        ExportFormat exportFormat = prepare(response, format, "authors");
+        exportService.exportAuthors(exportFormat, response.getOutputStream());
+    }
+}
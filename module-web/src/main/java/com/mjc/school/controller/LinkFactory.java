@@ -0,0 +1,44 @@
+package com.mjc.school.controller;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.hateoas.Link;
+import org.springframework.hateoas.server.mvc.UriComponentsBuilderFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+final class LinkFactory {
+    private static final String BASE_URI_ATTRIBUTE = LinkFactory.class.getName() + ".BASE_URI";
+    private static final ClassValue<String> PATH_PREFIXES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> controller) {
+            RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(controller, RequestMapping.class);
+            if (mapping == null || mapping.path().length == 0) {
+                throw new IllegalArgumentException(controller.getName() + " has no type-level request mapping");
+            }
+            String path = mapping.path()[0];
+            return path.endsWith("/") ? path : path + "/";
+        }
+    };
+
+    private LinkFactory() {
+    }
+
+    static Link selfLink(Class<?> controller, Object id) {
+        return Link.of(baseUri() + PATH_PREFIXES.get(controller) + id);
+    }
+
+    private static String baseUri() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return "";
+        }
+        String baseUri = (String) attributes.getAttribute(BASE_URI_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (baseUri == null) {
+            String uri = UriComponentsBuilderFactory.getBuilder().build().toUriString();
+            baseUri = uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri;
+            attributes.setAttribute(BASE_URI_ATTRIBUTE, baseUri, RequestAttributes.SCOPE_REQUEST);
+        }
+        return baseUri;
+    }
+}
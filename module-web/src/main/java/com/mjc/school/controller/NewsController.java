@@ -1,8 +1,9 @@
 package com.mjc.school.controller;
 
-import com.mjc.school.auth.UserDetailsServiceImpl;
 import com.mjc.school.dto.AuthorDtoResponseWithNews;
 import com.mjc.school.dto.CommentDtoResponse;
+import com.mjc.school.dto.CursorPageDtoResponse;
+import com.mjc.school.dto.FieldSelection;
 import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.NewsDtoResponse;
 import com.mjc.school.dto.ParametersDtoRequest;
@@ -10,14 +11,17 @@ import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoResponse;
 import com.mjc.school.service.AuthorService;
 import com.mjc.school.service.CommentService;
+import com.mjc.school.service.NewsImportService;
 import com.mjc.school.service.NewsService;
 import com.mjc.school.service.TagService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.hateoas.Link;
@@ -25,7 +29,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -33,16 +36,23 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.mjc.school.controller.LinkFactory.selfLink;
 import static com.mjc.school.controller.RestConstants.NEWS_V1_API_PATH;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @RestController
 @RequestMapping(value = NEWS_V1_API_PATH)
@@ -51,32 +61,39 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
     private final AuthorService authorService;
     private final TagService tagService;
     private final CommentService commentService;
-    private final UserDetailsServiceImpl userDetailsServiceImpl;
+    private final NewsImportService newsImportService;
 
     @Autowired
-    public NewsController(NewsService newsService, AuthorService authorService, TagService tagService, CommentService commentService, UserDetailsServiceImpl userDetailsServiceImpl) {
+    public NewsController(NewsService newsService, AuthorService authorService, TagService tagService, CommentService commentService,
+                          NewsImportService newsImportService) {
         this.newsService = newsService;
         this.authorService = authorService;
         this.tagService = tagService;
         this.commentService = commentService;
-        this.userDetailsServiceImpl = userDetailsServiceImpl;
+        this.newsImportService = newsImportService;
     }
 
     private static void setLinks(NewsDtoResponse newsDtoResponse) {
-        Link selfRel = linkTo(NewsController.class).slash(newsDtoResponse.getId()).withSelfRel();
+        Link selfRel = selfLink(NewsController.class, newsDtoResponse.getId());
         newsDtoResponse.add(selfRel);
-        Link authorRel = linkTo(AuthorController.class).slash(newsDtoResponse.getAuthorDtoResponse().getId()).withSelfRel();
-        newsDtoResponse.getAuthorDtoResponse().add(authorRel);
-        for (TagDtoResponse tagDtoResponse : newsDtoResponse.getTagDtoResponseList()) {
-            Link tagRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
-            tagDtoResponse.add(tagRel);
+        if (newsDtoResponse.getAuthorDtoResponse() != null) {
+            Link authorRel = selfLink(AuthorController.class, newsDtoResponse.getAuthorDtoResponse().getId());
+            newsDtoResponse.getAuthorDtoResponse().add(authorRel);
+        }
+        if (newsDtoResponse.getTagDtoResponseList() != null) {
+            for (TagDtoResponse tagDtoResponse : newsDtoResponse.getTagDtoResponseList()) {
+                Link tagRel = selfLink(TagController.class, tagDtoResponse.getId());
+                tagDtoResponse.add(tagRel);
+            }
         }
     }
 
     @Override
-    @Operation(summary = "View all news")
+    @Operation(summary = "View all news", description = "The search accepts words, quoted phrases, #(tag), author:, tag: and created: terms, "
+            + "parentheses, the upper-case AND, OR and NOT operators and a leading '-'. A search that does not parse is matched as plain words and #(tag) terms.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved all news"),
+            @ApiResponse(responseCode = "400", description = "The requested fields are not supported"),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
@@ -86,30 +103,86 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
     @PreAuthorize("permitAll()")
     public ResponseEntity<Page<NewsDtoResponse>> readAll(
             @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "fields", required = false) String fields,
             @PageableDefault(sort = "title", direction = Sort.Direction.DESC) Pageable pageable) {
         SearchingRequest searchingRequest = null;
         if (search != null && !search.isBlank()) {
             searchingRequest = new SearchingRequest(search);
         }
-        Page<NewsDtoResponse> page = newsService.readAll(searchingRequest, pageable);
+        Page<NewsDtoResponse> page = newsService.readAll(searchingRequest, pageable, FieldSelection.parse(fields));
         for (NewsDtoResponse newsDtoResponse : page.stream().toList()) {
             setLinks(newsDtoResponse);
         }
         return new ResponseEntity<>(page, OK);
     }
 
+    @Override
+    @Operation(summary = "View all news without counting the total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of news"),
+            @ApiResponse(responseCode = "400", description = "The requested fields are not supported"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(params = {"withTotal=false", "!after"})
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<Slice<NewsDtoResponse>> readAllSlice(
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "fields", required = false) String fields,
+            @PageableDefault(sort = "title", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (search != null && !search.isBlank()) {
+            searchingRequest = new SearchingRequest(search);
+        }
+        Slice<NewsDtoResponse> sliceDtoResponse = newsService.readAllSlice(searchingRequest, pageable, FieldSelection.parse(fields));
+        for (NewsDtoResponse newsDtoResponse : sliceDtoResponse) {
+            setLinks(newsDtoResponse);
+        }
+
+        return new ResponseEntity<>(sliceDtoResponse, OK);
+    }
+
+    @Operation(summary = "View news page after a cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved news page after a cursor"),
+            @ApiResponse(responseCode = "400", description = "The cursor is invalid or the requested fields are not supported"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(params = "after")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<NewsDtoResponse>> readAllAfter(
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "after") String after,
+            @RequestParam(name = "fields", required = false) String fields,
+            @PageableDefault(sort = "title", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (search != null && !search.isBlank()) {
+            searchingRequest = new SearchingRequest(search);
+        }
+        CursorPageDtoResponse<NewsDtoResponse> page = newsService.readAllAfter(searchingRequest, after, pageable, FieldSelection.parse(fields));
+        for (NewsDtoResponse newsDtoResponse : page.content()) {
+            setLinks(newsDtoResponse);
+        }
+        return new ResponseEntity<>(page, OK);
+    }
+
     @Override
     @Operation(summary = "Get news by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved news by id"),
+            @ApiResponse(responseCode = "304", description = "The resource has not been modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @GetMapping(value = "/{id}")
-    @ResponseStatus(OK)
     @PreAuthorize("permitAll()")
-    public ResponseEntity<NewsDtoResponse> readById(@PathVariable Long id) {
+    public ResponseEntity<NewsDtoResponse> readById(@PathVariable Long id, WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, newsService.readVersion(id))) {
+            return null;
+        }
         NewsDtoResponse newsDtoResponse = newsService.readById(id);
         setLinks(newsDtoResponse);
         return new ResponseEntity<>(newsDtoResponse, OK);
@@ -129,9 +202,7 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
     public ResponseEntity<NewsDtoResponse> create(@RequestBody NewsDtoRequest createRequest) {
         if (createRequest.getAuthorId() == null) {
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            String username = authentication.getName();
-            UserDetails user = userDetailsServiceImpl.loadUserByUsername(username);
-            Long authorId = authorService.readByUserUsername(user.getUsername()).getId();
+            Long authorId = authorService.readByUserUsername(authentication.getName()).getId();
             createRequest.setAuthorId(authorId);
         }
         NewsDtoResponse newsDtoResponse = newsService.create(createRequest);
@@ -139,6 +210,21 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
         return new ResponseEntity<>(newsDtoResponse, CREATED);
     }
 
+    @Operation(summary = "Import news from a newline-delimited JSON stream")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streamed a result line for every imported line"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/import", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void importNews(InputStream body, HttpServletResponse response) throws IOException {
+        response.setStatus(OK.value());
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        newsImportService.importNews(body, response.getOutputStream());
+    }
+
     @Override
     @Operation(summary = "Update news information")
     @ApiResponses(value = {
@@ -146,12 +232,14 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "412", description = "The resource has been modified since the supplied ETag"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @PutMapping(value = "/{id}")
     @ResponseStatus(OK)
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<NewsDtoResponse> update(@PathVariable Long id, @RequestBody NewsDtoRequest updateRequest) {
-        NewsDtoResponse newsDtoResponse = newsService.update(id, updateRequest);
+    public ResponseEntity<NewsDtoResponse> update(@PathVariable Long id, @RequestBody NewsDtoRequest updateRequest,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch) {
+        NewsDtoResponse newsDtoResponse = newsService.update(id, updateRequest, ifMatch);
         setLinks(newsDtoResponse);
         return new ResponseEntity<>(newsDtoResponse, OK);
     }
@@ -163,12 +251,14 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "412", description = "The resource has been modified since the supplied ETag"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @PatchMapping(value = "/{id}")
     @ResponseStatus(OK)
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<NewsDtoResponse> patch(@PathVariable Long id, @RequestBody NewsDtoRequest updateRequest) {
-        NewsDtoResponse newsDtoResponse = newsService.patch(id, updateRequest);
+    public ResponseEntity<NewsDtoResponse> patch(@PathVariable Long id, @RequestBody NewsDtoRequest updateRequest,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch) {
+        NewsDtoResponse newsDtoResponse = newsService.patch(id, updateRequest, ifMatch);
         setLinks(newsDtoResponse);
         return new ResponseEntity<>(newsDtoResponse, OK);
     }
@@ -206,6 +296,43 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
         return new ResponseEntity<>(newsDtoResponseList, OK);
     }
 
+    @Operation(summary = "Get news by params without counting the total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of news by params"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/search", params = {"withTotal=false", "!after"})
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<Slice<NewsDtoResponse>> readByParamsSlice(@RequestBody ParametersDtoRequest parametersDtoRequest, Pageable pageable) {
+        Slice<NewsDtoResponse> newsDtoResponseList = newsService.readByParamsSlice(parametersDtoRequest, pageable);
+        for (NewsDtoResponse newsDtoResponse : newsDtoResponseList) {
+            setLinks(newsDtoResponse);
+        }
+        return new ResponseEntity<>(newsDtoResponseList, OK);
+    }
+
+    @Operation(summary = "Get news by params after a cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved news by params after a cursor"),
+            @ApiResponse(responseCode = "400", description = "The cursor is invalid"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/search", params = "after")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<NewsDtoResponse>> readByParamsAfter(
+            @RequestBody ParametersDtoRequest parametersDtoRequest,
+            @RequestParam(name = "after") String after,
+            Pageable pageable) {
+        CursorPageDtoResponse<NewsDtoResponse> page = newsService.readByParamsAfter(parametersDtoRequest, after, pageable);
+        for (NewsDtoResponse newsDtoResponse : page.content()) {
+            setLinks(newsDtoResponse);
+        }
+        return new ResponseEntity<>(page, OK);
+    }
+
     @Operation(summary = "Get author by news id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved author by news id"),
@@ -218,7 +345,7 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
     @PreAuthorize("permitAll()")
     public ResponseEntity<AuthorDtoResponseWithNews> readAuthorByNewsId(@PathVariable Long id) {
         AuthorDtoResponseWithNews authorDtoResponse = authorService.readByNewsId(id);
-        Link selfRel = linkTo(AuthorController.class).slash(authorDtoResponse.getId()).withSelfRel();
+        Link selfRel = selfLink(AuthorController.class, authorDtoResponse.getId());
         authorDtoResponse.add(selfRel);
         return new ResponseEntity<>(authorDtoResponse, OK);
     }
@@ -236,7 +363,7 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
     public ResponseEntity<Page<TagDtoResponse>> readTagsByNewsId(@PathVariable Long id, Pageable pageable) {
         Page<TagDtoResponse> tagDtoResponseList = tagService.readByNewsId(id, pageable);
         for (TagDtoResponse tagDtoResponse : tagDtoResponseList) {
-            Link selfRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+            Link selfRel = selfLink(TagController.class, tagDtoResponse.getId());
             tagDtoResponse.add(selfRel);
         }
         return new ResponseEntity<>(tagDtoResponseList, OK);
@@ -255,9 +382,30 @@ public class NewsController implements BaseController<NewsDtoRequest, NewsDtoRes
     public ResponseEntity<Page<CommentDtoResponse>> readCommentsByNewsId(@PathVariable Long id, Pageable pageable) {
         Page<CommentDtoResponse> commentDtoResponseList = commentService.readByNewsId(id, pageable);
         for (CommentDtoResponse commentDtoResponse : commentDtoResponseList) {
-            Link selfRel = linkTo(CommentController.class).slash(commentDtoResponse.getId()).withSelfRel();
+            Link selfRel = selfLink(CommentController.class, commentDtoResponse.getId());
             commentDtoResponse.add(selfRel);
         }
         return new ResponseEntity<>(commentDtoResponseList, OK);
     }
+
+    @Operation(summary = "Get comments by news id after a cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved comments by news id after a cursor"),
+            @ApiResponse(responseCode = "400", description = "The cursor is invalid"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(value = "/{id}/comments", params = "after")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageDtoResponse<CommentDtoResponse>> readCommentsByNewsIdAfter(
+            @PathVariable Long id,
+            @RequestParam(name = "after") String after,
+            Pageable pageable) {
+        CursorPageDtoResponse<CommentDtoResponse> page = commentService.readByNewsIdAfter(id, after, pageable);
+        for (CommentDtoResponse commentDtoResponse : page.content()) {
+            Link selfRel = selfLink(CommentController.class, commentDtoResponse.getId());
+            commentDtoResponse.add(selfRel);
+        }
+        return new ResponseEntity<>(page, OK);
+    }
 }
@@ -8,5 +8,6 @@ public class RestConstants {
     public static final String TAGS_V1_API_PATH = BASE_V1_API_PATH + "/tags";
     public static final String COMMENTS_V1_API_PATH = BASE_V1_API_PATH + "/comments";
     public static final String AUTHENTICATION_V1_API_PATH = BASE_V1_API_PATH + "/auth";
+    public static final String ADMIN_V1_API_PATH = BASE_V1_API_PATH + "/admin";
 
 }
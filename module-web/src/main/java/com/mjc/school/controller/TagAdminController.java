@@ -0,0 +1,76 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.dto.ParametersDtoRequest;
+import com.mjc.school.dto.TagBulkDtoResponse;
+import com.mjc.school.service.TagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.mjc.school.controller.RestConstants.ADMIN_V1_API_PATH;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping(value = ADMIN_V1_API_PATH + "/tags")
+public class TagAdminController {
+    private final TagService tagService;
+
+    @Autowired
+    public TagAdminController(TagService tagService) {
+        this.tagService = tagService;
+    }
+
+    @Operation(summary = "Merge a tag into another tag, moving its news and deleting it")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully merged the tags"),
+            @ApiResponse(responseCode = "400", description = "A tag cannot be merged into itself"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/{id}/merge/{targetId}")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TagBulkDtoResponse> merge(@PathVariable Long id, @PathVariable Long targetId) {
+        return new ResponseEntity<>(tagService.merge(id, targetId), OK);
+    }
+
+    @Operation(summary = "Add a tag to all news matching the params")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully tagged the news"),
+            @ApiResponse(responseCode = "400", description = "At least one news filter is required"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/{id}/news")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TagBulkDtoResponse> addToNews(@PathVariable Long id, ParametersDtoRequest parametersDtoRequest) {
+        return new ResponseEntity<>(tagService.addToNews(id, parametersDtoRequest), OK);
+    }
+
+    @Operation(summary = "Remove a tag from all news matching the params")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully untagged the news"),
+            @ApiResponse(responseCode = "400", description = "At least one news filter is required"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @DeleteMapping(value = "/{id}/news")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TagBulkDtoResponse> removeFromNews(@PathVariable Long id, ParametersDtoRequest parametersDtoRequest) {
+        return new ResponseEntity<>(tagService.removeFromNews(id, parametersDtoRequest), OK);
+    }
+}
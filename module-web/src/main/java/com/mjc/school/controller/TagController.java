@@ -1,5 +1,6 @@
 package com.mjc.school.controller;
 
+import com.mjc.school.dto.FieldSelection;
 import com.mjc.school.dto.SearchingRequest;
 import com.mjc.school.dto.TagDtoRequest;
 import com.mjc.school.dto.TagDtoResponse;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.hateoas.Link;
@@ -22,13 +24,16 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import static com.mjc.school.controller.LinkFactory.selfLink;
 import static com.mjc.school.controller.RestConstants.TAGS_V1_API_PATH;
-import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.linkTo;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.OK;
@@ -47,6 +52,7 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
     @Operation(summary = "View all tags")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved all tags"),
+            @ApiResponse(responseCode = "400", description = "The requested fields are not supported"),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
@@ -56,34 +62,67 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
     @PreAuthorize("permitAll()")
     public ResponseEntity<Page<TagDtoResponse>> readAll(
             @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "fields", required = false) String fields,
             @PageableDefault(sort = "name", direction = Sort.Direction.DESC) Pageable pageable) {
         SearchingRequest searchingRequest = null;
         if (search != null && !search.isBlank()) {
             searchingRequest = new SearchingRequest(search);
         }
-        Page<TagDtoResponse> pageDtoResponse = tagService.readAll(searchingRequest, pageable);
+        Page<TagDtoResponse> pageDtoResponse = tagService.readAll(searchingRequest, pageable, FieldSelection.parse(fields));
         for (TagDtoResponse tagDtoResponse : pageDtoResponse.stream().toList()) {
-            Link selfRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+            Link selfRel = selfLink(TagController.class, tagDtoResponse.getId());
             tagDtoResponse.add(selfRel);
         }
 
         return new ResponseEntity<>(pageDtoResponse, OK);
     }
 
+    @Override
+    @Operation(summary = "View all tags without counting the total")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved a slice of tags"),
+            @ApiResponse(responseCode = "400", description = "The requested fields are not supported"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping(params = "withTotal=false")
+    @ResponseStatus(OK)
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<Slice<TagDtoResponse>> readAllSlice(
+            @RequestParam(name = "search", required = false) String search,
+            @RequestParam(name = "fields", required = false) String fields,
+            @PageableDefault(sort = "name", direction = Sort.Direction.DESC) Pageable pageable) {
+        SearchingRequest searchingRequest = null;
+        if (search != null && !search.isBlank()) {
+            searchingRequest = new SearchingRequest(search);
+        }
+        Slice<TagDtoResponse> sliceDtoResponse = tagService.readAllSlice(searchingRequest, pageable, FieldSelection.parse(fields));
+        for (TagDtoResponse tagDtoResponse : sliceDtoResponse) {
+            Link selfRel = selfLink(TagController.class, tagDtoResponse.getId());
+            tagDtoResponse.add(selfRel);
+        }
+
+        return new ResponseEntity<>(sliceDtoResponse, OK);
+    }
+
     @Override
     @Operation(summary = "Get tag by id")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved tag by id"),
+            @ApiResponse(responseCode = "304", description = "The resource has not been modified since the supplied ETag or date"),
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @GetMapping(value = "/{id}")
-    @ResponseStatus(OK)
     @PreAuthorize("permitAll()")
-    public ResponseEntity<TagDtoResponse> readById(@PathVariable Long id) {
+    public ResponseEntity<TagDtoResponse> readById(@PathVariable Long id, WebRequest request) {
+        if (ConditionalRequests.isNotModified(request, tagService.readVersion(id))) {
+            return null;
+        }
         TagDtoResponse tagDtoResponse = tagService.readById(id);
-        Link selfRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+        Link selfRel = selfLink(TagController.class, tagDtoResponse.getId());
         tagDtoResponse.add(selfRel);
         return new ResponseEntity<>(tagDtoResponse, OK);
     }
@@ -101,7 +140,7 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
     @PreAuthorize("hasAuthority('ADMIN')")
     public ResponseEntity<TagDtoResponse> create(@RequestBody TagDtoRequest createRequest) {
         TagDtoResponse tagDtoResponse = tagService.create(createRequest);
-        Link selfRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+        Link selfRel = selfLink(TagController.class, tagDtoResponse.getId());
         tagDtoResponse.add(selfRel);
         return new ResponseEntity<>(tagDtoResponse, CREATED);
     }
@@ -113,13 +152,15 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "412", description = "The resource has been modified since the supplied ETag"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @PutMapping(value = "/{id}")
     @ResponseStatus(OK)
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<TagDtoResponse> update(@PathVariable Long id, @RequestBody TagDtoRequest updateRequest) {
-        TagDtoResponse tagDtoResponse = tagService.update(id, updateRequest);
-        Link selfRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+    public ResponseEntity<TagDtoResponse> update(@PathVariable Long id, @RequestBody TagDtoRequest updateRequest,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch) {
+        TagDtoResponse tagDtoResponse = tagService.update(id, updateRequest, ifMatch);
+        Link selfRel = selfLink(TagController.class, tagDtoResponse.getId());
         tagDtoResponse.add(selfRel);
         return new ResponseEntity<>(tagDtoResponse, OK);
     }
@@ -131,13 +172,15 @@ public class TagController implements BaseController<TagDtoRequest, TagDtoRespon
             @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
             @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
             @ApiResponse(responseCode = "404", description = "The resource you were trying to reach is not found"),
+            @ApiResponse(responseCode = "412", description = "The resource has been modified since the supplied ETag"),
             @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
     @PatchMapping(value = "/{id}")
     @ResponseStatus(OK)
     @PreAuthorize("hasAuthority('ADMIN')")
-    public ResponseEntity<TagDtoResponse> patch(@PathVariable Long id, @RequestBody TagDtoRequest updateRequest) {
-        TagDtoResponse tagDtoResponse = tagService.patch(id, updateRequest);
-        Link selfRel = linkTo(TagController.class).slash(tagDtoResponse.getId()).withSelfRel();
+    public ResponseEntity<TagDtoResponse> patch(@PathVariable Long id, @RequestBody TagDtoRequest updateRequest,
+            @RequestHeader(value = IF_MATCH, required = false) String ifMatch) {
+        TagDtoResponse tagDtoResponse = tagService.patch(id, updateRequest, ifMatch);
+        Link selfRel = selfLink(TagController.class, tagDtoResponse.getId());
         tagDtoResponse.add(selfRel);
         return new ResponseEntity<>(tagDtoResponse, OK);
     }
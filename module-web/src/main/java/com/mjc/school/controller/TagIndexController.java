@@ -0,0 +1,55 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.dto.TagIndexDtoResponse;
+import com.mjc.school.search.TagBitmapIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.mjc.school.controller.RestConstants.ADMIN_V1_API_PATH;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping(value = ADMIN_V1_API_PATH + "/tag-index")
+public class TagIndexController {
+    private final TagBitmapIndex tagBitmapIndex;
+
+    @Autowired
+    public TagIndexController(TagBitmapIndex tagBitmapIndex) {
+        this.tagBitmapIndex = tagBitmapIndex;
+    }
+
+    @Operation(summary = "Verify the tag bitmap index against the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully verified the tag index"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TagIndexDtoResponse> verify() {
+        return new ResponseEntity<>(tagBitmapIndex.verify(), OK);
+    }
+
+    @Operation(summary = "Rebuild the tag bitmap index from the database")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully rebuilt the tag index"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @PostMapping(value = "/rebuild")
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<TagIndexDtoResponse> rebuild() {
+        return new ResponseEntity<>(tagBitmapIndex.rebuild(), OK);
+    }
+}
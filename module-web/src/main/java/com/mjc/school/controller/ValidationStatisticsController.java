@@ -0,0 +1,43 @@
+package com.mjc.school.controller;
+
+import com.mjc.school.dto.ValidationTimerDtoResponse;
+import com.mjc.school.validator.ValidationMetrics;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+import static com.mjc.school.controller.RestConstants.ADMIN_V1_API_PATH;
+import static org.springframework.http.HttpStatus.OK;
+
+@RestController
+@RequestMapping(value = ADMIN_V1_API_PATH + "/validation")
+public class ValidationStatisticsController {
+    private final ValidationMetrics validationMetrics;
+
+    @Autowired
+    public ValidationStatisticsController(ValidationMetrics validationMetrics) {
+        this.validationMetrics = validationMetrics;
+    }
+
+    @Operation(summary = "View request validation timings per service method")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the validation timings"),
+            @ApiResponse(responseCode = "401", description = "You are not authorized to view the resource"),
+            @ApiResponse(responseCode = "403", description = "Accessing the resource you were trying to reach is forbidden"),
+            @ApiResponse(responseCode = "500", description = "Application failed to process the request")})
+    @GetMapping
+    @ResponseStatus(OK)
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public ResponseEntity<List<ValidationTimerDtoResponse>> readTimers() {
+        return new ResponseEntity<>(validationMetrics.statistics(), OK);
+    }
+}
@@ -1,6 +1,7 @@
 package com.mjc.school.exception;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -13,8 +14,10 @@ import java.time.temporal.ChronoUnit;
 
 import static com.mjc.school.exception.ExceptionErrorCodes.API_VERSION_NOT_SUPPORTED;
 import static com.mjc.school.exception.ExceptionErrorCodes.AUTHENTICATION_FAILED;
+import static com.mjc.school.exception.ExceptionErrorCodes.CONCURRENT_MODIFICATION;
 import static com.mjc.school.exception.ExceptionErrorCodes.ENTITY_ALREADY_EXISTS;
 import static com.mjc.school.exception.ExceptionErrorCodes.METHOD_ARGUMENT_TYPE_MISMATCH_EXCEPTION;
+import static com.mjc.school.exception.ExceptionErrorCodes.PRECONDITION_FAILED;
 import static com.mjc.school.exception.ExceptionErrorCodes.RESOURCE_NOT_FOUND;
 import static com.mjc.school.exception.ExceptionErrorCodes.VALIDATION_EXCEPTION;
 
@@ -81,6 +84,30 @@ public class ApiExceptionHandler {
         return new ResponseEntity<>(apiException, status);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedException(PreconditionFailedException e) {
+        HttpStatus status = HttpStatus.PRECONDITION_FAILED;
+        ApiException apiException = new ApiException(
+                PRECONDITION_FAILED.getErrorCode(),
+                e.getMessage(),
+                status,
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)
+        );
+        return new ResponseEntity<>(apiException, status);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException e) {
+        HttpStatus status = HttpStatus.CONFLICT;
+        ApiException apiException = new ApiException(
+                CONCURRENT_MODIFICATION.getErrorCode(),
+                CONCURRENT_MODIFICATION.getErrorMessage(),
+                status,
+                LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS)
+        );
+        return new ResponseEntity<>(apiException, status);
+    }
+
     @ExceptionHandler(AuthException.class)
     public ResponseEntity<Object> handleValidationException(AuthException e) {
         HttpStatus status = HttpStatus.UNAUTHORIZED;
@@ -1,6 +1,8 @@
 package com.mjc.school.impl;
 
 import com.mjc.school.dto.AuthorDtoRequest;
+import com.mjc.school.dto.CommentDtoRequest;
+import com.mjc.school.dto.NewsDtoRequest;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.mapper.ObjectMapperType;
@@ -11,6 +13,7 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
@@ -379,6 +382,70 @@ class AuthorControllerIntegrationTest {
                 .statusCode(204);
     }
 
+    @Test
+    void givenAuthorWithNewsAndComments_whenDeleteAuthor_thenWholeGraphIsDeleted() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer authorId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new AuthorDtoRequest("Prolific"), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/authors")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        Integer newsId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("Prolific news", "News of a prolific author", authorId.longValue(), List.of(1L)),
+                        ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        Integer commentId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new CommentDtoRequest("Comment on prolific news", newsId.longValue()), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/comments")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/authors/{id}", authorId)
+                .then()
+                .statusCode(204);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/authors/{id}", authorId)
+                .then()
+                .statusCode(404);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(404);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/comments/{id}", commentId)
+                .then()
+                .statusCode(404);
+    }
+
     @Test
     void givenAdminAuthAndNonExistingAuthorId_whenDeleteAuthor_thenReturn404() {
         Long nonexistentId = 999L;
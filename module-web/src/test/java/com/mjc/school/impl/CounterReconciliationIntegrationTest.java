@@ -0,0 +1,98 @@
+package com.mjc.school.impl;
+
+import com.mjc.school.counter.CounterReconciliationJob;
+import com.mjc.school.dto.CommentDtoRequest;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.mapper.ObjectMapperType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CounterReconciliationIntegrationTest {
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private CounterReconciliationJob counterReconciliationJob;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+    }
+
+    private String obtainJwtToken(String username, String password) {
+        Map<String, String> loginPayload = new HashMap<>();
+        loginPayload.put("username", username);
+        loginPayload.put("password", password);
+        return given()
+                .contentType(ContentType.JSON)
+                .body(loginPayload)
+                .when()
+                .post("/api/v1/auth/authenticate")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("token");
+    }
+
+    @Test
+    void givenNewComment_whenReadNews_thenCommentCountIncludesIt() {
+        String token = obtainJwtToken("admin", "admin");
+        long before = countComments(2L);
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new CommentDtoRequest("Counted comment", 2L), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/comments")
+                .then()
+                .statusCode(201);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/2")
+                .then()
+                .statusCode(200)
+                .body("commentCount", equalTo((int) before + 1));
+    }
+
+    @Test
+    void givenDriftedCounters_whenReconcile_thenCountersMatchRows() {
+        jdbcTemplate.update("UPDATE news SET comment_count = 42 WHERE id = 1");
+        jdbcTemplate.update("UPDATE authors SET news_count = 7 WHERE id = 1");
+
+        counterReconciliationJob.reconcile();
+
+        assertEquals(countComments(1L), jdbcTemplate.queryForObject("SELECT comment_count FROM news WHERE id = 1", Long.class));
+        long newsCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news WHERE author_id = 1", Long.class);
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/authors/1")
+                .then()
+                .statusCode(200)
+                .body("newsCount", equalTo((int) newsCount));
+    }
+
+    private long countComments(long newsId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE news_id = ?", Long.class, newsId);
+    }
+}
@@ -0,0 +1,127 @@
+package com.mjc.school.impl;
+
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.path.json.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ExportControllerIntegrationTest {
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+    }
+
+    private String obtainJwtToken(String username, String password) {
+        Map<String, String> loginPayload = new HashMap<>();
+        loginPayload.put("username", username);
+        loginPayload.put("password", password);
+        return given()
+                .contentType(ContentType.JSON)
+                .body(loginPayload)
+                .when()
+                .post("/api/v1/auth/authenticate")
+                .then()
+                .statusCode(200)
+                .extract()
+                .path("token");
+    }
+
+    @Test
+    void givenTitleParam_whenExportNewsAsNdjson_thenStreamMatchingNewsWithTags() {
+        List<String> lines = given()
+                .header("Authorization", "Bearer " + obtainJwtToken("admin", "admin"))
+                .queryParam("newsTitle", "title1")
+                .when()
+                .get("/api/v1/admin/export/news")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("application/x-ndjson"))
+                .header("Content-Disposition", containsString("news.ndjson"))
+                .extract()
+                .asString()
+                .lines()
+                .toList();
+
+        assertThat(lines, not(empty()));
+        JsonPath first = JsonPath.from(lines.get(0));
+        assertThat(first.getString("title"), containsString("title1"));
+        assertThat(first.getString("authorName"), notNullValue());
+        assertThat(first.getList("tags"), notNullValue());
+    }
+
+    @Test
+    void givenCsvFormat_whenExportAuthors_thenStreamHeaderAndRows() {
+        List<String> lines = given()
+                .header("Authorization", "Bearer " + obtainJwtToken("admin", "admin"))
+                .queryParam("format", "csv")
+                .when()
+                .get("/api/v1/admin/export/authors")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("text/csv"))
+                .extract()
+                .asString()
+                .lines()
+                .toList();
+
+        assertThat(lines.get(0), equalTo("id,name,createDate,lastUpdateDate"));
+        assertThat(lines.size(), greaterThan(1));
+        assertThat(lines.get(1), startsWith("1,"));
+    }
+
+    @Test
+    void givenNdjsonFormat_whenExportComments_thenEveryLineIsJson() {
+        List<String> lines = given()
+                .header("Authorization", "Bearer " + obtainJwtToken("admin", "admin"))
+                .when()
+                .get("/api/v1/admin/export/comments")
+                .then()
+                .statusCode(200)
+                .extract()
+                .asString()
+                .lines()
+                .toList();
+
+        assertThat(lines, not(empty()));
+        lines.forEach(line -> assertThat(JsonPath.from(line).getLong("newsId"), notNullValue()));
+    }
+
+    @Test
+    void givenUnknownFormat_whenExport_thenReturn400() {
+        given()
+                .header("Authorization", "Bearer " + obtainJwtToken("admin", "admin"))
+                .queryParam("format", "xml")
+                .when()
+                .get("/api/v1/admin/export/authors")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenUserToken_whenExport_thenReturn403() {
+        given()
+                .header("Authorization", "Bearer " + obtainJwtToken("test", "test"))
+                .when()
+                .get("/api/v1/admin/export/news")
+                .then()
+                .statusCode(403);
+    }
+}
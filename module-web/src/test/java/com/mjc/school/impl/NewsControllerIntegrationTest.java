@@ -5,17 +5,21 @@ import com.mjc.school.dto.ParametersDtoRequest;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
 import io.restassured.mapper.ObjectMapperType;
+import io.restassured.path.json.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.hamcrest.core.IsEqual.equalTo;
 
@@ -46,6 +50,19 @@ class NewsControllerIntegrationTest {
                 .path("token");
     }
 
+    private int createNews(String token, String title, List<Long> tagIds) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest(title, "Content of " + title, 1L, tagIds), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
     @Test
     void givenNoParams_whenGetAllNews_thenReturn200AndNewsPage() {
         given()
@@ -76,6 +93,47 @@ class NewsControllerIntegrationTest {
                 .body("content[0].content", equalTo("content2"));
     }
 
+    @Test
+    void givenRelevanceSort_whenSearchNews_thenReturnTitleMatchesFirst() {
+        given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("search", "title3")
+                .queryParam("sort", "relevance")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content.size()", equalTo(1))
+                .body("content[0].title", equalTo("title3"));
+    }
+
+    @Test
+    void givenBooleanSearchQuery_whenGetNews_thenApplyWholeExpression() {
+        given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("search", "(title2 OR title3) NOT author:author3 created:2000-01-01..")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content.title", contains("title2"));
+    }
+
+    @Test
+    void givenMalformedSearchQuery_whenGetNews_thenSearchLiteralText() {
+        given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("search", "(title2 OR")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content", empty());
+    }
+
     @Test
     void givenPaginationParams_whenGetNews_thenReturnCorrectPage() {
         given()
@@ -91,6 +149,78 @@ class NewsControllerIntegrationTest {
                 .body("totalPages", greaterThanOrEqualTo(1));
     }
 
+    @Test
+    void givenWithTotalFalse_whenGetNews_thenReturnSliceWithoutTotal() {
+        given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("withTotal", false)
+                .queryParam("size", 2)
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content.size()", equalTo(2))
+                .body("last", equalTo(false))
+                .body("totalElements", nullValue());
+    }
+
+    @Test
+    void givenEmptyCursor_whenGetNews_thenReturnFirstPageAndNextCursor() {
+        String nextCursor = given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("after", "")
+                .queryParam("size", 2)
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content.size()", equalTo(2))
+                .body("size", equalTo(2))
+                .body("nextCursor", notNullValue())
+                .extract()
+                .path("nextCursor");
+
+        given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("after", nextCursor)
+                .queryParam("size", 2)
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content", not(empty()));
+    }
+
+    @Test
+    void givenInvalidCursor_whenGetNews_thenReturn400() {
+        given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("after", "not-a-cursor")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenCursorWithUnsortableProperty_whenGetNews_thenReturn400() {
+        String cursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("author.name\nDESC\n1\nadmin".getBytes(StandardCharsets.UTF_8));
+        given()
+                .contentType(ContentType.JSON)
+                .accept(ContentType.JSON)
+                .queryParam("after", cursor)
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(400)
+                .body("errorMessage", containsString("author.name"));
+    }
+
     @Test
     void givenExistingId_whenGetNewsById_thenReturnNews() {
         given()
@@ -109,6 +239,92 @@ class NewsControllerIntegrationTest {
                 .body("_links.self.href", containsString("/api/v1/news/3"));
     }
 
+    @Test
+    void givenExistingId_whenGetNewsById_thenNestedLinksUseAbsoluteResourceUris() {
+        String baseUri = "http://localhost:" + port;
+        Integer authorId = given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/3")
+                .then()
+                .statusCode(200)
+                .body("_links.self.href", equalTo(baseUri + "/api/v1/news/3"))
+                .body("tagDtoResponseList._links.self.href", everyItem(startsWith(baseUri + "/api/v1/tags/")))
+                .extract()
+                .path("authorDtoResponse.id");
+        given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/3")
+                .then()
+                .body("authorDtoResponse._links.self.href", equalTo(baseUri + "/api/v1/authors/" + authorId));
+    }
+
+    @Test
+    void givenFields_whenGetAllNews_thenReturnOnlyRequestedFields() {
+        given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/v1/news?fields=title,excerpt,tags")
+                .then()
+                .statusCode(200)
+                .body("content", not(empty()))
+                .body("content[0].id", notNullValue())
+                .body("content[0].title", notNullValue())
+                .body("content[0].excerpt", notNullValue())
+                .body("content[0].tagDtoResponseList", notNullValue())
+                .body("content[0]", not(hasKey("content")))
+                .body("content[0]", not(hasKey("authorDtoResponse")))
+                .body("content[0]", not(hasKey("commentCount")))
+                .body("content[0]._links.self.href", containsString("/api/v1/news/"));
+    }
+
+    @Test
+    void givenFieldsAndSearch_whenGetAllNews_thenReturnOnlyRequestedFields() {
+        given()
+                .contentType(ContentType.JSON)
+                .queryParam("search", "title")
+                .queryParam("fields", "title")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content", not(empty()))
+                .body("content[0].title", notNullValue())
+                .body("content[0]", not(hasKey("content")))
+                .body("content[0]", not(hasKey("authorDtoResponse")))
+                .body("content[0]", not(hasKey("tagDtoResponseList")));
+    }
+
+    @Test
+    void givenFields_whenGetNewsAfterCursor_thenReturnOnlyRequestedFields() {
+        given()
+                .contentType(ContentType.JSON)
+                .queryParam("after", "")
+                .queryParam("fields", "title,tags")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("content", not(empty()))
+                .body("content[0].id", notNullValue())
+                .body("content[0].title", notNullValue())
+                .body("content[0].tagDtoResponseList", notNullValue())
+                .body("content[0]", not(hasKey("content")))
+                .body("content[0]", not(hasKey("authorDtoResponse")));
+    }
+
+    @Test
+    void givenUnknownField_whenGetAllNews_thenReturn400() {
+        given()
+                .contentType(ContentType.JSON)
+                .when()
+                .get("/api/v1/news?fields=title,password")
+                .then()
+                .statusCode(400)
+                .body("errorMessage", containsString("password"));
+    }
+
     @Test
     void givenNonexistentId_whenGetNewsById_thenReturn404() {
         given()
@@ -119,6 +335,100 @@ class NewsControllerIntegrationTest {
                 .statusCode(404);
     }
 
+    @Test
+    void givenCurrentETag_whenGetNewsById_thenReturn304WithoutBody() {
+        String token = obtainJwtToken("admin", "admin");
+        int id = createNews(token, "Conditional news", List.of(1L));
+
+        String eTag = given()
+                .when()
+                .get("/api/v1/news/{id}", id)
+                .then()
+                .statusCode(200)
+                .header("ETag", not(emptyOrNullString()))
+                .header("Last-Modified", nullValue())
+                .extract()
+                .header("ETag");
+
+        given()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/api/v1/news/{id}", id)
+                .then()
+                .statusCode(304)
+                .header("ETag", equalTo(eTag))
+                .body(emptyString());
+    }
+
+    @Test
+    void givenTagRenamed_whenGetNewsWithPreviousETag_thenReturn200WithNewETag() {
+        String token = obtainJwtToken("admin", "admin");
+        int tagId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(Map.of("name", "etagtag"))
+                .when()
+                .post("/api/v1/tags")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+        int id = createNews(token, "News with renamed tag", List.of((long) tagId));
+        String eTag = given().when().get("/api/v1/news/{id}", id).then().statusCode(200).extract().header("ETag");
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(Map.of("name", "etagtagrenamed"))
+                .when()
+                .patch("/api/v1/tags/{id}", tagId)
+                .then()
+                .statusCode(200);
+
+        given()
+                .header("If-None-Match", eTag)
+                .when()
+                .get("/api/v1/news/{id}", id)
+                .then()
+                .statusCode(200)
+                .header("ETag", not(equalTo(eTag)))
+                .body("tagDtoResponseList.name", contains("etagtagrenamed"));
+    }
+
+    @Test
+    void givenStaleIfMatch_whenPatchNews_thenReturn412AndKeepConcurrentChange() {
+        String token = obtainJwtToken("admin", "admin");
+        int id = createNews(token, "Lost update news", List.of());
+        String eTag = given().when().get("/api/v1/news/{id}", id).then().statusCode(200).extract().header("ETag");
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", eTag)
+                .body(Map.of("title", "First writer"))
+                .when()
+                .patch("/api/v1/news/{id}", id)
+                .then()
+                .statusCode(200);
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .header("If-Match", eTag)
+                .body(Map.of("title", "Second writer"))
+                .when()
+                .patch("/api/v1/news/{id}", id)
+                .then()
+                .statusCode(412);
+
+        given()
+                .when()
+                .get("/api/v1/news/{id}", id)
+                .then()
+                .statusCode(200)
+                .body("title", equalTo("First writer"));
+    }
+
     @Test
     void givenValidRequestAndAuthorized_whenCreateNews_thenReturn201AndCreatedNews() {
         String token = obtainJwtToken("test", "test");
@@ -147,6 +457,23 @@ class NewsControllerIntegrationTest {
                 .body("_links.self.href", containsString("/api/v1/news/"));
     }
 
+    @Test
+    void givenMissingTags_whenCreateNews_thenReturn404ListingAllMissingTags() {
+        String token = obtainJwtToken("admin", "admin");
+        NewsDtoRequest request = new NewsDtoRequest("Missing tags", "News with missing tags", 1L, List.of(1L, 998L, 999L));
+
+        given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(request, ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(404)
+                .body("errorMessage", containsString("[998, 999]"));
+    }
+
     @Test
     void givenInvalidRequestAndAuthorized_whenCreateNews_thenReturn400() {
         String token = obtainJwtToken("admin", "admin");
@@ -166,6 +493,31 @@ class NewsControllerIntegrationTest {
                 .statusCode(400);
     }
 
+    @Test
+    void givenSeveralInvalidFields_whenCreateNews_thenReportAllViolationsAndRecordTiming() {
+        String token = obtainJwtToken("admin", "admin");
+        NewsDtoRequest request = new NewsDtoRequest("abc", "", 1L, List.of());
+
+        given()
+                .accept(ContentType.JSON)
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(request, ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(400)
+                .body("errorMessage", allOf(containsString("value abc"), containsString("; ")));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/api/v1/admin/validation")
+                .then()
+                .statusCode(200)
+                .body("find { it.method == 'NewsServiceImpl.create(NewsDtoRequest)' }.failures", greaterThan(0));
+    }
+
     @Test
     void givenUnauthorizedUser_whenCreateNews_thenReturn401() {
         given()
@@ -622,4 +974,129 @@ class NewsControllerIntegrationTest {
                 .then()
                 .statusCode(404);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenCachedSearch_whenNewsCreated_thenSearchReflectsNewNews() {
+        String token = obtainJwtToken("admin", "admin");
+
+        given()
+                .queryParam("search", "Memoized")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(0));
+
+        given()
+                .queryParam("search", "memoized")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(0));
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("memoized news", "memoized content", 1L, List.of()), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201);
+
+        given()
+                .queryParam("search", "memoized")
+                .when()
+                .get("/api/v1/news")
+                .then()
+                .statusCode(200)
+                .body("totalElements", equalTo(1))
+                .body("content[0].title", equalTo("memoized news"));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/api/v1/admin/cache/search")
+                .then()
+                .statusCode(200)
+                .body("hits", greaterThan(0))
+                .body("generation", greaterThan(0));
+    }
+
+    @Test
+    void givenRepeatedAuthenticatedRequests_whenReadPrincipalCache_thenReportHits() {
+        String token = obtainJwtToken("admin", "admin");
+        for (int i = 0; i < 3; i++) {
+            given()
+                    .header("Authorization", "Bearer " + token)
+                    .when()
+                    .get("/api/v1/admin/cache/search")
+                    .then()
+                    .statusCode(200);
+        }
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .get("/api/v1/admin/cache/principals")
+                .then()
+                .statusCode(200)
+                .body("entries", greaterThan(0))
+                .body("hits", greaterThanOrEqualTo(3));
+    }
+
+    @Test
+    void givenNdjsonLines_whenImportNews_thenStreamPerLineResults() {
+        String token = obtainJwtToken("admin", "admin");
+        String body = String.join("\n",
+                "{\"title\":\"imported one\",\"content\":\"imported content\",\"authorName\":\"Author2\",\"tagNames\":[\"name1\",\"imported\"]}",
+                "{\"title\":\"title1\",\"content\":\"duplicate title\",\"authorName\":\"Author2\"}",
+                "",
+                "{\"title\":\"imported two\",\"content\":\"imported content\",\"authorName\":\"Nobody\"}",
+                "not json");
+
+        List<String> lines = given()
+                .contentType("application/x-ndjson")
+                .header("Authorization", "Bearer " + token)
+                .body(body)
+                .when()
+                .post("/api/v1/news/import")
+                .then()
+                .statusCode(200)
+                .contentType(startsWith("application/x-ndjson"))
+                .extract()
+                .asString()
+                .lines()
+                .toList();
+
+        assertThat(lines, hasSize(4));
+        JsonPath created = JsonPath.from(lines.get(0));
+        assertThat(created.getInt("line"), equalTo(1));
+        assertThat(created.getString("status"), equalTo("CREATED"));
+        assertThat(JsonPath.from(lines.get(1)).getString("status"), equalTo("FAILED"));
+        assertThat(JsonPath.from(lines.get(2)).getInt("line"), equalTo(4));
+        assertThat(JsonPath.from(lines.get(2)).getString("error"), containsString("Nobody"));
+        assertThat(JsonPath.from(lines.get(3)).getString("status"), equalTo("FAILED"));
+
+        given()
+                .when()
+                .get("/api/v1/news/" + created.getLong("id"))
+                .then()
+                .statusCode(200)
+                .body("title", equalTo("imported one"))
+                .body("authorDtoResponse.name", equalTo("Author2"))
+                .body("tagDtoResponseList.name", containsInAnyOrder("name1", "imported"));
+    }
+
+    @Test
+    void givenUserToken_whenImportNews_thenReturn403() {
+        given()
+                .contentType("application/x-ndjson")
+                .header("Authorization", "Bearer " + obtainJwtToken("test", "test"))
+                .body("{}")
+                .when()
+                .post("/api/v1/news/import")
+                .then()
+                .statusCode(403);
+    }
+}
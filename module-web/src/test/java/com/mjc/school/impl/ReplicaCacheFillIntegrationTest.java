@@ -0,0 +1,81 @@
+package com.mjc.school.impl;
+
+import com.mjc.school.datasource.CacheRefill;
+import com.mjc.school.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "datasource.replica.urls=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "datasource.replica.username=REPLICA",
+        "datasource.replica.password=replica",
+        "datasource.replica.read-your-writes-window=PT1M",
+        "datasource.replica.cache-fill-window=PT1M"})
+@ActiveProfiles("test")
+class ReplicaCacheFillIntegrationTest {
+    private static final String PRIMARY_USER = "SA";
+    private static final String REPLICA_USER = "REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE USER IF NOT EXISTS REPLICA PASSWORD 'replica' ADMIN");
+        replicaRoutingDataSource.refreshHealth();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void givenCommittedWrite_whenOtherUserReads_thenRouteToReplica() {
+        authenticate("writer");
+        currentUser(false);
+
+        authenticate("reader");
+        assertEquals(REPLICA_USER, currentUser(true));
+    }
+
+    @Test
+    void givenCommittedWrite_whenOtherUserRefillsCache_thenRouteToPrimary() {
+        authenticate("writer");
+        currentUser(false);
+
+        authenticate("reader");
+        assertEquals(PRIMARY_USER, CacheRefill.run(() -> currentUser(true)));
+
+        SecurityContextHolder.clearContext();
+        assertEquals(PRIMARY_USER, CacheRefill.run(() -> currentUser(true)));
+    }
+
+    private String currentUser(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT CURRENT_USER", String.class));
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
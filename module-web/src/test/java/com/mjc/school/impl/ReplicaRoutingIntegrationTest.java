@@ -0,0 +1,95 @@
+package com.mjc.school.impl;
+
+import com.mjc.school.datasource.ReplicaRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = {
+        "datasource.replica.urls=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE,jdbc:h2:tcp://localhost:1/mem:unreachable",
+        "datasource.replica.username=REPLICA",
+        "datasource.replica.password=replica",
+        "datasource.replica.connection-timeout=PT1S",
+        "datasource.replica.read-your-writes-window=PT1M",
+        "datasource.replica.cache-fill-window=PT0S"})
+@ActiveProfiles("test")
+class ReplicaRoutingIntegrationTest {
+    private static final String PRIMARY_USER = "SA";
+    private static final String REPLICA_USER = "REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("CREATE USER IF NOT EXISTS REPLICA PASSWORD 'replica' ADMIN");
+        replicaRoutingDataSource.refreshHealth();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void givenUnreachableReplica_whenRefreshHealth_thenOnlyHealthyReplicaIsUsed() {
+        assertEquals(List.of("replica-0"), replicaRoutingDataSource.getHealthyReplicas());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(REPLICA_USER, currentUser(true));
+        }
+    }
+
+    @Test
+    void givenReadWriteTransaction_whenQuery_thenRouteToPrimary() {
+        assertEquals(PRIMARY_USER, currentUser(false));
+    }
+
+    @Test
+    void givenRecentWrite_whenSameUserReads_thenRouteToPrimaryUntilWindowExpires() {
+        authenticate("writer");
+        currentUser(false);
+        assertEquals(PRIMARY_USER, currentUser(true));
+
+        authenticate("reader");
+        assertEquals(REPLICA_USER, currentUser(true));
+    }
+
+    @Test
+    void givenRolledBackWrite_whenSameUserReads_thenRouteToReplica() {
+        authenticate("rollback");
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.queryForObject("SELECT CURRENT_USER", String.class);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(REPLICA_USER, currentUser(true));
+    }
+
+    private String currentUser(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT CURRENT_USER", String.class));
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+}
@@ -0,0 +1,155 @@
+package com.mjc.school.impl;
+
+import com.mjc.school.model.Author;
+import com.mjc.school.model.Comment;
+import com.mjc.school.model.News;
+import com.mjc.school.model.Tag;
+import com.mjc.school.model.projection.NewsRow;
+import com.mjc.school.repository.AuthorRepository;
+import com.mjc.school.repository.CommentRepository;
+import com.mjc.school.repository.NewsRepository;
+import com.mjc.school.repository.TagRepository;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class RepositoryFetchIntegrationTest {
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AuthorRepository authorRepository;
+    @Autowired
+    private NewsRepository newsRepository;
+    @Autowired
+    private TagRepository tagRepository;
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.clear();
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 5})
+    void authorPage_shouldLoadNewsAndTagsInBatches(int size) {
+        Page<Author> authors = authorRepository.findAll(page(size));
+        authors.forEach(author -> author.getNews().forEach(news -> news.getTags().size()));
+
+        assertFalse(authors.isEmpty());
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4})
+    void newsPage_shouldLoadTagsInOneBatch(int size) {
+        Page<News> news = newsRepository.findAll(page(size));
+        news.forEach(item -> {
+            item.getAuthor().getName();
+            item.getTags().size();
+        });
+
+        assertFalse(news.isEmpty());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4})
+    void newsSlice_shouldNotCountAndLoadTagsInOneBatch(int size) {
+        Slice<News> news = newsRepository.findSlice(null, page(size));
+        news.forEach(item -> item.getTags().size());
+
+        assertFalse(news.isEmpty());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4})
+    void newsRows_shouldLoadTagsInOneQuery(int size) {
+        Slice<NewsRow> rows = newsRepository.findRowSlice(null, page(size));
+        newsRepository.findTagRowsByNewsIds(rows.map(NewsRow::id).toList());
+
+        assertFalse(rows.isEmpty());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 4})
+    void tagPage_shouldLoadNewsInOneBatch(int size) {
+        Page<Tag> tags = tagRepository.findAll(page(size));
+        tags.forEach(tag -> tag.getNews().size());
+
+        assertFalse(tags.isEmpty());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 5})
+    void commentPage_shouldLoadNewsTagsInOneBatch(int size) {
+        Page<Comment> comments = commentRepository.findAll(page(size));
+        comments.forEach(comment -> comment.getNews().getTags().size());
+
+        assertFalse(comments.isEmpty());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void adjustNewsCount_shouldEvictOnlyTheAdjustedAuthor() {
+        entityManager.find(Author.class, 1L);
+        entityManager.find(Author.class, 2L);
+        Cache cache = entityManagerFactory.getCache();
+        assertTrue(cache.contains(Author.class, 1L));
+
+        authorRepository.adjustNewsCount(1L, 1);
+
+        assertFalse(cache.contains(Author.class, 1L));
+        assertTrue(cache.contains(Author.class, 2L));
+    }
+
+    @Test
+    void deleteTagLinksByNewsId_shouldEvictOnlyThatNewsTags() {
+        entityManager.find(News.class, 1L).getTags().size();
+        entityManager.find(News.class, 2L).getTags().size();
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        String role = News.class.getName() + ".tags";
+        assertTrue(sessionFactory.getCache().containsCollection(role, 2L));
+
+        newsRepository.deleteTagLinksByNewsId(1L);
+
+        assertFalse(sessionFactory.getCache().containsCollection(role, 1L));
+        assertTrue(sessionFactory.getCache().containsCollection(role, 2L));
+    }
+
+    private static Pageable page(int size) {
+        return PageRequest.of(0, size, Sort.by("id"));
+    }
+}
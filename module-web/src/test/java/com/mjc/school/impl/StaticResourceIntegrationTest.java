@@ -0,0 +1,56 @@
+package com.mjc.school.impl;
+
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.IsEqual.equalTo;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class StaticResourceIntegrationTest {
+    private static final String BUNDLE = "/static/js/main.3f2a1c.js";
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    public void setUp() {
+        RestAssured.baseURI = "http://localhost";
+        RestAssured.port = port;
+    }
+
+    @Test
+    void givenGzipAccepted_whenGetHashedBundle_thenServePrecompressedAndImmutable() {
+        given()
+                .header("Accept-Encoding", "gzip")
+                .when()
+                .get(BUNDLE)
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", equalTo("gzip"))
+                .header("Vary", containsString("Accept-Encoding"))
+                .header("Cache-Control", containsString("immutable"))
+                .body(containsString("frontend bundle fixture"));
+    }
+
+    @Test
+    void givenNoEncodingAccepted_whenGetHashedBundle_thenServeIdentity() {
+        given()
+                .config(RestAssured.config().decoderConfig(
+                        RestAssured.config().getDecoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "identity")
+                .when()
+                .get(BUNDLE)
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(containsString("frontend bundle fixture"));
+    }
+}
@@ -1,5 +1,6 @@
 package com.mjc.school.impl;
 
+import com.mjc.school.dto.NewsDtoRequest;
 import com.mjc.school.dto.TagDtoRequest;
 import io.restassured.RestAssured;
 import io.restassured.http.ContentType;
@@ -11,6 +12,7 @@ import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
@@ -410,4 +412,260 @@ class TagControllerIntegrationTest {
                 .then()
                 .statusCode(401);
     }
-}
\ No newline at end of file
+
+    @Test
+    void givenAdminAuth_whenRebuildAndVerifyTagIndex_thenReturnConsistentIndex() {
+        String token = obtainJwtToken("admin", "admin");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .post("/api/v1/admin/tag-index/rebuild")
+                .then()
+                .statusCode(200)
+                .body("consistent", equalTo(true))
+                .body("tags", greaterThan(0));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/admin/tag-index")
+                .then()
+                .statusCode(200)
+                .body("consistent", equalTo(true))
+                .body("mismatchedTagIds", empty());
+    }
+
+    @Test
+    void givenUserRoleAuth_whenVerifyTagIndex_thenReturn403() {
+        String token = obtainJwtToken("test", "test");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/admin/tag-index")
+                .then()
+                .statusCode(403);
+    }
+
+    @Test
+    void givenCachedNewsTags_whenRenameAndDeleteTag_thenNewsReflectsChanges() {
+        String token = obtainJwtToken("admin", "admin");
+
+        Integer tagId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest("cached"), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/tags")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        Integer newsId = given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest("cached news", "content of cached news", 1L, List.of(tagId.longValue())), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("tagDtoResponseList.name", hasItems("cached"));
+
+        given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest("renamed"), ObjectMapperType.JACKSON_2)
+                .when()
+                .patch("/api/v1/tags/{id}", tagId)
+                .then()
+                .statusCode(200);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("tagDtoResponseList.name", hasItems("renamed"))
+                .body("tagDtoResponseList.name", not(hasItems("cached")));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .when()
+                .delete("/api/v1/tags/{id}", tagId)
+                .then()
+                .statusCode(204);
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("tagDtoResponseList", empty());
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/admin/cache")
+                .then()
+                .statusCode(200)
+                .body("region", hasItems("tags", "authors", "news-tags"));
+    }
+
+    @Test
+    void givenTwoTags_whenMergeTags_thenNewsMoveToTargetAndSourceIsDeleted() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer sourceId = createTag(token, "merge source");
+        Integer targetId = createTag(token, "merge target");
+        Integer newsId = createNews(token, "merged news", List.of(sourceId.longValue()));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .post("/api/v1/admin/tags/{id}/merge/{targetId}", sourceId, targetId)
+                .then()
+                .statusCode(200)
+                .body("tagId", equalTo(targetId))
+                .body("affectedNews", equalTo(1));
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("tagDtoResponseList.name", contains("merge target"));
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/tags/{id}", sourceId)
+                .then()
+                .statusCode(404);
+    }
+
+    @Test
+    void givenTagMergedIntoItself_whenMergeTags_thenReturn400() {
+        String token = obtainJwtToken("admin", "admin");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .post("/api/v1/admin/tags/{id}/merge/{targetId}", 1, 1)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenNoNewsFilter_whenBulkAddTag_thenReturn400() {
+        String token = obtainJwtToken("admin", "admin");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .post("/api/v1/admin/tags/{id}/news", 1)
+                .then()
+                .statusCode(400);
+    }
+
+    @Test
+    void givenNewsFilter_whenBulkAddAndRemoveTag_thenOnlyMatchingNewsChange() {
+        String token = obtainJwtToken("admin", "admin");
+        Integer tagId = createTag(token, "bulk");
+        Integer newsId = createNews(token, "bulk retagged news", List.of());
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .queryParam("newsTitle", "BULK RETAGGED")
+                .when()
+                .post("/api/v1/admin/tags/{id}/news", tagId)
+                .then()
+                .statusCode(200)
+                .body("affectedNews", equalTo(1));
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("tagDtoResponseList.name", contains("bulk"));
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .queryParam("newsTitle", "bulk retagged")
+                .when()
+                .delete("/api/v1/admin/tags/{id}/news", tagId)
+                .then()
+                .statusCode(200)
+                .body("affectedNews", equalTo(1));
+
+        given()
+                .accept(ContentType.JSON)
+                .when()
+                .get("/api/v1/news/{id}", newsId)
+                .then()
+                .statusCode(200)
+                .body("tagDtoResponseList", empty());
+    }
+
+    @Test
+    void givenUserRoleAuth_whenBulkAddTag_thenReturn403() {
+        String token = obtainJwtToken("test", "test");
+
+        given()
+                .header("Authorization", "Bearer " + token)
+                .accept(ContentType.JSON)
+                .when()
+                .post("/api/v1/admin/tags/{id}/news", 1)
+                .then()
+                .statusCode(403);
+    }
+
+    private Integer createTag(String token, String name) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new TagDtoRequest(name), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/tags")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+
+    private Integer createNews(String token, String title, List<Long> tagIds) {
+        return given()
+                .contentType(ContentType.JSON)
+                .header("Authorization", "Bearer " + token)
+                .body(new NewsDtoRequest(title, "content of " + title, 1L, tagIds), ObjectMapperType.JACKSON_2)
+                .when()
+                .post("/api/v1/news")
+                .then()
+                .statusCode(201)
+                .extract()
+                .path("id");
+    }
+}
@@ -71,3 +71,9 @@ INSERT INTO news_tags(news_id, tag_id)
 values (4, 4);
 INSERT INTO news_tags(news_id, tag_id)
 values (5, 5);
+UPDATE news
+SET comment_count = (SELECT COUNT(*) FROM comments c WHERE c.news_id = news.id);
+UPDATE authors
+SET news_count = (SELECT COUNT(*) FROM news n WHERE n.author_id = authors.id);
+UPDATE news
+SET excerpt = content;
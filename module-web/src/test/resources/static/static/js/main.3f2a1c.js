@@ -0,0 +1 @@
+console.log("frontend bundle fixture");